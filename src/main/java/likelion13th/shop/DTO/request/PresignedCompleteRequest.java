@@ -0,0 +1,10 @@
+package likelion13th.shop.DTO.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PresignedCompleteRequest {
+    private String key; // presigned URL 발급 시 받은 object key
+}
@@ -0,0 +1,11 @@
+package likelion13th.shop.DTO.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PresignedUploadRequest {
+    private String filename;    // 원본 파일명
+    private String contentType; // 업로드할 파일의 Content-Type (image/*)
+}
@@ -0,0 +1,28 @@
+package likelion13th.shop.DTO.response;
+
+import likelion13th.shop.search.PriceBand;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 필터 조회 응답
+ * - page: 필터를 적용한 상품 목록 (커서 기반 페이지)
+ * - totalCount: 필터를 적용한 전체 상품 수
+ * - brandCounts / priceBandCounts / newCount: 각 패싯 값을 선택했을 때의 상품 수
+ */
+@Getter
+@AllArgsConstructor
+public class ItemFacetResponse {
+    private ItemPageResponse page;
+    private int totalCount;
+    private Map<String, Integer> brandCounts;
+    private Map<PriceBand, Integer> priceBandCounts;
+    private int newCount;
+
+    public static ItemFacetResponse empty() {
+        return new ItemFacetResponse(new ItemPageResponse(List.of(), null, false), 0, Map.of(), Map.of(), 0);
+    }
+}
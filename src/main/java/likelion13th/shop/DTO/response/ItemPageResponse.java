@@ -0,0 +1,26 @@
+package likelion13th.shop.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 상품 목록 응답
+ * - nextCursor: 다음 페이지 요청 시 cursor로 그대로 보내면 됨 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class ItemPageResponse {
+    private List<ItemResponse> items;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    // 조회 결과(size + 1건까지 조회) → 응답 변환
+    public static ItemPageResponse of(List<ItemResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<ItemResponse> items = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new ItemPageResponse(items, nextCursor, hasNext);
+    }
+}
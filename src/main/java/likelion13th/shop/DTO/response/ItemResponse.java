@@ -2,8 +2,11 @@ package likelion13th.shop.DTO.response;
 
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import likelion13th.shop.S3.ImageVariant;
 import likelion13th.shop.domain.Item;
+import likelion13th.shop.repository.projection.ItemSummary;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,12 +21,32 @@ public class ItemResponse {
     private String brand;
     private String imagePath;
     private boolean isNew;
+    @JsonIgnore
+    private boolean imageVariants; // 변형 이미지 존재 여부 (없으면 변형 URL 대신 원본 URL)
 
     @JsonProperty("isNew")
     public boolean getIsNew() {
         return isNew;
     }
 
+    // 리사이즈된 변형 이미지 URL (원본 imagePath에서 규칙으로 계산, 목록에서는 thumbnail/list 사용 권장)
+    // - 변형이 없는 상품은 원본 URL을 그대로 내려준다. (규칙으로 계산한 URL은 404)
+    public String getThumbnailPath() {
+        return variantPath(ImageVariant.THUMBNAIL);
+    }
+
+    public String getListImagePath() {
+        return variantPath(ImageVariant.LIST);
+    }
+
+    public String getDetailImagePath() {
+        return variantPath(ImageVariant.DETAIL);
+    }
+
+    private String variantPath(ImageVariant variant) {
+        return imageVariants ? variant.urlFor(imagePath) : imagePath;
+    }
+
     // Item → ItemResponseDto 변환
     public static ItemResponse from(Item item) {
         return new ItemResponse(
@@ -32,7 +55,21 @@ public class ItemResponse {
                 item.getPrice(),
                 item.getBrand(),
                 item.getImagePath(),
-                item.isNew()
+                item.isNew(),
+                item.isImageVariants()
+        );
+    }
+
+    // projection 조회 결과 → ItemResponse 변환
+    public static ItemResponse from(ItemSummary item) {
+        return new ItemResponse(
+                item.getId(),
+                item.getName(),
+                item.getPrice(),
+                item.getBrand(),
+                item.getImagePath(),
+                Boolean.TRUE.equals(item.getIsNew()),
+                Boolean.TRUE.equals(item.getImageVariants())
         );
     }
 }
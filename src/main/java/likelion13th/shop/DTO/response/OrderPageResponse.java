@@ -0,0 +1,18 @@
+package likelion13th.shop.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 주문 목록 응답 (최신순)
+ * - nextCursor: 다음 페이지 요청 시 cursor로 그대로 보내면 됨 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderPageResponse {
+    private List<OrderResponse> orders;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -3,6 +3,7 @@ package likelion13th.shop.DTO.response;
 
 import likelion13th.shop.domain.Order;
 import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.repository.projection.OrderSummary;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,9 +25,14 @@ public class OrderResponse {
     private ItemResponse item;
 
     public static OrderResponse from(Order order) {
+        return from(order, order.getUser().getUsernickname());
+    }
+
+    // 닉네임을 이미 알고 있는 경우 (사용자 프록시를 초기화하지 않음)
+    public static OrderResponse from(Order order, String usernickname) {
         return new OrderResponse(
                 order.getId(),
-                order.getUser().getUsernickname(),
+                usernickname,
                 order.getQuantity(),
                 order.getTotalPrice(),
                 order.getFinalPrice(),
@@ -36,4 +42,27 @@ public class OrderResponse {
                 ItemResponse.from(order.getItem())
         );
     }
+
+    // projection 조회 결과 → OrderResponse 변환 (닉네임도 같은 조회에서 가져옴)
+    public static OrderResponse from(OrderSummary order) {
+        return new OrderResponse(
+                order.getOrderId(),
+                order.getUsernickname(),
+                order.getQuantity(),
+                order.getTotalPrice(),
+                order.getFinalPrice(),
+                order.getTotalPrice() - order.getFinalPrice(),
+                order.getStatus(),
+                order.getCreatedAt(),
+                new ItemResponse(
+                        order.getItemId(),
+                        order.getItemName(),
+                        order.getItemPrice(),
+                        order.getItemBrand(),
+                        order.getItemImagePath(),
+                        Boolean.TRUE.equals(order.getItemIsNew()),
+                        Boolean.TRUE.equals(order.getItemImageVariants())
+                )
+        );
+    }
 }
@@ -0,0 +1,16 @@
+package likelion13th.shop.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class PresignedUploadResponse {
+    private String key;                // 업로드 완료 알림(complete) 때 다시 보낼 object key
+    private String uploadUrl;          // 클라이언트가 직접 POST(multipart/form-data) 할 버킷 URL
+    private Map<String, String> fields; // form에 그대로 넣을 필드 (서명된 정책 포함, file 필드는 마지막에 추가)
+    private Date expiresAt;            // 업로드 정책 만료 시각
+}
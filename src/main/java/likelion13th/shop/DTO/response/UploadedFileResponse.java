@@ -0,0 +1,29 @@
+package likelion13th.shop.DTO.response;
+
+import likelion13th.shop.S3.ImageVariant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UploadedFileResponse {
+    private String url;             // 업로드된 원본 URL (상품 imagePath로 저장할 값)
+    private boolean imageVariants;  // 리사이즈 변형(썸네일/목록/상세)이 모두 만들어졌는지
+
+    // 변형 이미지 URL (ItemResponse와 같은 규칙, 변형이 없으면 원본 URL)
+    public String getThumbnailPath() {
+        return variantPath(ImageVariant.THUMBNAIL);
+    }
+
+    public String getListImagePath() {
+        return variantPath(ImageVariant.LIST);
+    }
+
+    public String getDetailImagePath() {
+        return variantPath(ImageVariant.DETAIL);
+    }
+
+    private String variantPath(ImageVariant variant) {
+        return imageVariants ? variant.urlFor(url) : url;
+    }
+}
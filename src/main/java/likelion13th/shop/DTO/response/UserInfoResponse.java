@@ -3,6 +3,7 @@ package likelion13th.shop.DTO.response;
 import likelion13th.shop.domain.Order;
 import likelion13th.shop.domain.User;
 import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.repository.projection.MileageBalance;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -18,7 +19,7 @@ public class UserInfoResponse {
     private int maxMileage;
     private Map<OrderStatus, Integer> orderStatusCounts; // 각 상태별 주문 개수
 
-    public static UserInfoResponse from(User user) {
+    public static UserInfoResponse from(User user, MileageBalance balance) {
         // 각 상태별 주문 개수 계산
         Map<OrderStatus, Integer> orderStatusCounts = user.getOrders().stream()
                 .collect(Collectors.groupingBy(
@@ -33,8 +34,8 @@ public class UserInfoResponse {
 
         return new UserInfoResponse(
                 user.getUsernickname(),
-                user.getRecentTotal(),
-                user.getMaxMileage(),
+                balance.getPurchaseTotal(),
+                balance.getMileage(),
                 orderStatusCounts
         );
     }
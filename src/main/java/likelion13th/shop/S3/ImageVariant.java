@@ -0,0 +1,35 @@
+package likelion13th.shop.S3;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 이미지 변형(리사이즈) 종류
+ * - 원본 업로드 시 각 변형을 JPEG로 다시 인코딩해 원본 옆에 저장한다.
+ * - key 규칙: 원본 key에서 확장자를 뗀 뒤 "_{suffix}.jpg"를 붙인다.
+ *   예) 1234_photo.png → 1234_photo_thumb.jpg / 1234_photo_list.jpg / 1234_photo_detail.jpg
+ * - 규칙이 고정되어 있으므로 원본 URL(Item.imagePath)만 있으면 변형 URL을 바로 계산할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("thumb", 200),  // 작은 타일/썸네일
+    LIST("list", 480),        // 카테고리 목록
+    DETAIL("detail", 1080);   // 상품 상세
+
+    private final String suffix;
+    private final int maxWidth; // 이 너비보다 큰 이미지만 축소 (작은 이미지는 확대하지 않음)
+
+    /** 원본 key(또는 URL) → 변형 key(또는 URL) */
+    public String keyFor(String original) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        String base = dot > slash ? original.substring(0, dot) : original;
+        return base + "_" + suffix + ".jpg";
+    }
+
+    /** 원본 URL이 없으면 null */
+    public String urlFor(String originalUrl) {
+        return originalUrl == null ? null : keyFor(originalUrl);
+    }
+}
@@ -0,0 +1,185 @@
+package likelion13th.shop.S3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 업로드 이미지 리사이즈/재인코딩
+ * - 원본을 한 번만 디코딩한 뒤 ImageVariant별(썸네일/목록/상세)로 병렬 리사이즈 → JPEG 인코딩 → S3 업로드
+ * - 목록 화면은 수 MB 원본 대신 수십 KB 변형 이미지를 받게 된다.
+ * - 이미지 처리는 CPU 작업이므로 S3 업로드 풀과 분리된 CPU 코어 수 크기의 풀에서 실행한다.
+ * - 변형 생성 실패는 원본 업로드를 실패시키지 않는다. (클라이언트는 원본 URL로 대체 가능)
+ * - 디코딩 전에 헤더의 가로/세로만 읽어 imageMaxPixels를 넘는 이미지는 변형 생성을 생략한다. (decompression bomb 방지)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final AmazonS3 amazonS3;
+    private final S3Properties s3Properties;
+    private final ExecutorService imageExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "image-variant");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public ImageVariantService(AmazonS3 amazonS3, S3Properties s3Properties) {
+        this.amazonS3 = amazonS3;
+        this.s3Properties = s3Properties;
+    }
+
+    /**
+     * 원본 이미지로 모든 변형을 만들어 업로드하고, 업로드된 변형 key 목록을 반환
+     * - 디코딩할 수 없는 형식(ImageIO 미지원)이거나 픽셀 수가 너무 크면 빈 목록
+     */
+    public List<String> createVariants(InputStream original, String originalKey) {
+        BufferedImage source;
+        try {
+            source = decode(original, originalKey);
+        } catch (IOException e) {
+            log.warn("이미지 디코딩 실패 - 변형 생성 생략 (key={})", originalKey, e);
+            return List.of();
+        }
+        if (source == null) {
+            return List.of();
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(source, variant, originalKey), imageExecutor));
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (CompletableFuture<String> future : futures) {
+            try {
+                keys.add(future.join());
+            } catch (Exception e) {
+                log.warn("이미지 변형 생성 실패 (key={})", originalKey, e);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 픽셀 수를 먼저 확인한 뒤 디코딩
+     * - ImageReader는 헤더만 읽고 가로/세로를 알려주므로, 큰 이미지는 픽셀 버퍼를 할당하기 전에 거절된다.
+     * - 지원하지 않는 형식이거나 너무 크면 null
+     */
+    private BufferedImage decode(InputStream original, String originalKey) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original)) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.debug("지원하지 않는 이미지 형식 - 변형 생성 생략 (key={})", originalKey);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > s3Properties.getImageMaxPixels()) {
+                    log.warn("이미지 픽셀 수 초과 - 변형 생성 생략 (key={}, {}x{})",
+                            originalKey, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 모든 변형 이미지가 S3에 있는지 HEAD로 확인 (이미 올라간 원본을 재사용하거나 상품에 연결할 때) */
+    public boolean hasAllVariants(String originalKey) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!amazonS3.doesObjectExist(s3Properties.getBucket(), variant.keyFor(originalKey))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 원본과 함께 변형 이미지 삭제 (업로드 롤백용) */
+    public void deleteVariants(String originalKey) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                amazonS3.deleteObject(s3Properties.getBucket(), variant.keyFor(originalKey));
+            } catch (Exception e) {
+                log.warn("이미지 변형 삭제 실패 (key={})", variant.keyFor(originalKey), e);
+            }
+        }
+    }
+
+    private String upload(BufferedImage source, ImageVariant variant, String originalKey) {
+        byte[] bytes = encodeJpeg(resize(source, variant.getMaxWidth()));
+        String key = variant.keyFor(originalKey);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/jpeg");
+        metadata.setContentLength(bytes.length);
+        amazonS3.putObject(s3Properties.getBucket(), key, new ByteArrayInputStream(bytes), metadata);
+        return key;
+    }
+
+    /** 비율을 유지하며 maxWidth 이하로 축소 (JPEG는 알파가 없으므로 흰 배경으로 합성) */
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new IllegalStateException("JPEG 인코딩 실패", e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
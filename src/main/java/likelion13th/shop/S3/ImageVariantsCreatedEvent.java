@@ -0,0 +1,11 @@
+package likelion13th.shop.S3;
+
+import java.util.List;
+
+/**
+ * 업로드한 원본 이미지의 리사이즈 변형(ImageVariant)이 모두 만들어졌을 때 발행되는 이벤트
+ * - imageUrls: 변형이 모두 존재하는 원본 URL 목록 (상품 imagePath와 같은 형식)
+ * - 업로드 요청이 성공한 경우에만 발행된다. (실패로 정리된 파일은 포함하지 않음)
+ */
+public record ImageVariantsCreatedEvent(List<String> imageUrls) {
+}
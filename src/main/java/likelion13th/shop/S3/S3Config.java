@@ -2,12 +2,20 @@ package likelion13th.shop.S3;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @EnableConfigurationProperties(S3Properties.class)
@@ -22,9 +30,35 @@ public class S3Config {
                 s3properties.getSecretKey()
         );
 
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(s3properties.getRegion())
-                .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
-                .build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+
+        // 로컬 S3 대체 서버를 쓰는 경우(테스트 등) 엔드포인트 + path-style 접근
+        if (StringUtils.hasText(s3properties.getEndpoint())) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                            s3properties.getEndpoint(), s3properties.getRegion()))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(s3properties.getRegion());
+        }
+        return builder.build();
+    }
+
+    // 여러 파일을 동시에 올리기 위한 전용 스레드 풀 (Tomcat 요청 스레드와 분리)
+    // - 스레드 수와 대기 큐를 제한해 업로드 폭주 시 메모리/연결 수가 무한히 늘지 않도록 한다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3UploadExecutor() {
+        int threads = s3properties.getUploadThreads();
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                r -> {
+                    Thread thread = new Thread(r, "s3-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()); // 큐가 가득 차면 요청 스레드에서 직접 업로드
     }
 }
@@ -1,6 +1,11 @@
 package likelion13th.shop.S3;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import likelion13th.shop.DTO.request.PresignedCompleteRequest;
+import likelion13th.shop.DTO.request.PresignedUploadRequest;
+import likelion13th.shop.DTO.response.PresignedUploadResponse;
+import likelion13th.shop.DTO.response.UploadedFileResponse;
 import likelion13th.shop.global.api.ApiResponse;
 import likelion13th.shop.global.api.ErrorCode;
 import likelion13th.shop.global.api.SuccessCode;
@@ -10,9 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,13 +24,19 @@ import java.util.Optional;
 public class S3Controller {
 
     private final S3Service s3Service;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final S3PresignService s3PresignService;
+    private final S3Properties s3Properties;
 
     // S3 파일 업로드 API
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "S3 파일 업로드", description = "AWS S3에 이미지를 업로드하고 URL을 반환합니다")
-    public ApiResponse<?> upload(@RequestPart("photo") MultipartFile[] files) {
-        List<String> fileUrls = new ArrayList<>();
-
+    @Operation(summary = "S3 파일 업로드", description = "AWS S3에 이미지를 업로드하고 URL과 리사이즈 변형 이미지 생성 여부를 반환합니다")
+    public ApiResponse<?> upload(
+            @RequestPart("photo") MultipartFile[] files,
+            // true면 같은 내용의 파일은 다시 올리지 않고 기존 URL 반환 (SHA-256 기반 key)
+            @RequestParam(value = "dedup", defaultValue = "false") boolean dedup
+    ) {
+        // 1~2. 업로드 전에 모든 파일을 먼저 검사 (하나라도 잘못되면 아무것도 올리지 않음)
         for(MultipartFile file: files) {
             // 1. 파일 유효성 검사
             if (file.isEmpty()) {
@@ -38,16 +48,62 @@ public class S3Controller {
             if (contentType == null || !contentType.startsWith("image/")) {
                 throw new GeneralException(ErrorCode.S3_INVALID_FILE_TYPE);
             }
+        }
+
+        // 3. S3 업로드 (병렬, 결과는 입력 순서 유지 / 실패 시 이미 올린 파일 정리 후 예외)
+        List<UploadedFileResponse> uploaded = s3Service.uploadFiles(files, dedup);
+
+        // 4. 응답 반환 (원본 URL + 변형 이미지 URL)
+        return ApiResponse.onSuccess(SuccessCode.S3_UPLOAD_SUCCESS, uploaded);
+
+
+    }
 
-            // 3. S3 업로드
-            String fileUrl = Optional.ofNullable(s3Service.uploadFile(file))
-                    .orElseThrow(() -> new GeneralException(ErrorCode.S3_UPLOAD_FAILED));
-            fileUrls.add(fileUrl);
+    // S3 대용량 파일 스트리밍 업로드 API
+    // - multipart/form-data가 아닌 요청 본문(raw body) 자체를 파일로 받아, 디스크 임시 저장 없이 S3로 바로 올린다.
+    @PostMapping(value = "/upload/stream")
+    @Operation(summary = "S3 대용량 파일 스트리밍 업로드",
+            description = "요청 본문을 그대로 S3 multipart upload로 전송하고 URL을 반환합니다 (Content-Type: image/*)")
+    public ApiResponse<?> uploadStream(
+            HttpServletRequest request,
+            @RequestParam("filename") String filename
+    ) throws IOException {
+        // 1. 파일 형식 검사
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new GeneralException(ErrorCode.S3_INVALID_FILE_TYPE);
         }
 
+        // 2. 크기를 미리 알 수 있으면 업로드 시작 전에 검사 (모르면 업로드 중에 검사)
+        long contentLength = request.getContentLengthLong();
+        if (contentLength == 0) {
+            throw new GeneralException(ErrorCode.S3_FILE_EMPTY);
+        }
+        if (contentLength > s3Properties.getStreamMaxSize()) {
+            throw new GeneralException(ErrorCode.S3_FILE_TOO_LARGE);
+        }
+
+        // 3. S3 스트리밍 업로드
+        String fileUrl = s3StreamingUploader.upload(request.getInputStream(), contentType, filename);
+
         // 4. 응답 반환
-        return ApiResponse.onSuccess(SuccessCode.S3_UPLOAD_SUCCESS, fileUrls);
+        return ApiResponse.onSuccess(SuccessCode.S3_UPLOAD_SUCCESS, List.of(fileUrl));
+    }
 
+    // presigned POST 정책 발급 API (클라이언트가 S3로 직접 업로드)
+    @PostMapping("/presigned")
+    @Operation(summary = "S3 직접 업로드 URL 발급", description = "S3에 직접 POST 할 수 있는 URL과 서명된 form 필드를 발급합니다 (최대 크기는 S3가 강제)")
+    public ApiResponse<PresignedUploadResponse> issuePresignedUrl(@RequestBody PresignedUploadRequest request) {
+        PresignedUploadResponse response =
+                s3PresignService.issueUploadUrl(request.getFilename(), request.getContentType());
+        return ApiResponse.onSuccess(SuccessCode.S3_PRESIGNED_URL_SUCCESS, response);
+    }
 
+    // presigned 업로드 완료 알림 API (HEAD로 형식/크기 검증 후 URL 반환)
+    @PostMapping("/presigned/complete")
+    @Operation(summary = "S3 직접 업로드 완료", description = "업로드된 파일의 형식과 크기를 검증하고 URL을 반환합니다")
+    public ApiResponse<?> completePresignedUpload(@RequestBody PresignedCompleteRequest request) {
+        String fileUrl = s3PresignService.completeUpload(request.getKey());
+        return ApiResponse.onSuccess(SuccessCode.S3_UPLOAD_SUCCESS, List.of(fileUrl));
     }
 }
@@ -0,0 +1,181 @@
+package likelion13th.shop.S3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import likelion13th.shop.DTO.response.PresignedUploadResponse;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * presigned POST 기반 직접 업로드
+ * - 서버는 서명된 업로드 정책(POST policy)만 발급하고, 파일 바이트는 클라이언트 → S3로 직접 전송된다.
+ * - 정책에 content-length-range(1 ~ presignedMaxSize)와 Content-Type을 넣어 S3가 업로드 시점에 크기/형식을 강제한다.
+ *   (presigned PUT은 크기 제한을 걸 수 없어 최대 5GB까지 올라갈 수 있었음)
+ * - 업로드는 presigned/ 임시 접두사로 받고, 완료 알림(complete) 시 HEAD로 다시 검증한 뒤 정식 key로 옮긴다.
+ *   완료 알림이 오지 않은 임시 객체는 S3PresignSweeper가 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3PresignService {
+
+    // presigned 업로드로 올라간 객체만 complete 대상이 되도록 key 접두사를 고정 (완료 전 임시 영역)
+    static final String KEY_PREFIX = "presigned/";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter SHORT_DATE = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final AmazonS3 amazonS3;
+    private final S3Properties s3Properties;
+
+    /** 업로드용 presigned POST 정책 발급 */
+    public PresignedUploadResponse issueUploadUrl(String filename, String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new GeneralException(ErrorCode.S3_INVALID_FILE_TYPE);
+        }
+        if (filename == null || filename.isBlank()) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST);
+        }
+
+        String bucketName = s3Properties.getBucket();
+        String key = KEY_PREFIX + UUID.randomUUID() + "_" + filename;
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = now.plusSeconds(s3Properties.getPresignedExpirationSeconds());
+
+        String credential = s3Properties.getAccessKey() + "/" + SHORT_DATE.format(now) + "/"
+                + s3Properties.getRegion() + "/s3/aws4_request";
+        String amzDate = AMZ_DATE.format(now);
+
+        // 정책 조건: 아래 form 필드와 정확히 같은 값 + 크기 범위 (하나라도 다르면 S3가 403으로 거절)
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("expiration", DateTimeFormatter.ISO_INSTANT.format(expiresAt));
+        policy.put("conditions", List.of(
+                Map.of("bucket", bucketName),
+                Map.of("key", key),
+                Map.of("Content-Type", contentType),
+                List.of("content-length-range", 1, s3Properties.getPresignedMaxSize()),
+                Map.of("x-amz-algorithm", ALGORITHM),
+                Map.of("x-amz-credential", credential),
+                Map.of("x-amz-date", amzDate)));
+        String encodedPolicy = Base64.getEncoder().encodeToString(toJson(policy));
+
+        // 클라이언트는 이 필드들을 그대로 multipart/form-data로 보내고, 마지막에 file 필드를 붙인다.
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("key", key);
+        fields.put("Content-Type", contentType);
+        fields.put("x-amz-algorithm", ALGORITHM);
+        fields.put("x-amz-credential", credential);
+        fields.put("x-amz-date", amzDate);
+        fields.put("policy", encodedPolicy);
+        fields.put("x-amz-signature", sign(encodedPolicy, now));
+
+        String uploadUrl = amazonS3.getUrl(bucketName, "").toString();
+        return new PresignedUploadResponse(key, uploadUrl, fields, Date.from(expiresAt));
+    }
+
+    /**
+     * 업로드 완료 처리
+     * - HEAD(getObjectMetadata)로 실제 업로드된 객체의 Content-Type/크기를 확인 (정책과 별개로 한 번 더 검증)
+     * - 검증 실패 시 객체를 삭제하고 예외
+     * - 검증을 통과하면 임시 접두사를 뗀 정식 key로 복사한 뒤 임시 객체를 삭제한다.
+     */
+    public String completeUpload(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX) || key.contains("..")) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST);
+        }
+        String bucketName = s3Properties.getBucket();
+
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3.getObjectMetadata(bucketName, key);
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                throw new GeneralException(ErrorCode.S3_OBJECT_NOT_FOUND);
+            }
+            log.error("S3 HEAD 요청 실패 - key={}", key, e);
+            throw new GeneralException(ErrorCode.S3_UPLOAD_FAILED);
+        }
+
+        String contentType = metadata.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            amazonS3.deleteObject(bucketName, key);
+            throw new GeneralException(ErrorCode.S3_INVALID_FILE_TYPE);
+        }
+        if (metadata.getContentLength() == 0) {
+            amazonS3.deleteObject(bucketName, key);
+            throw new GeneralException(ErrorCode.S3_FILE_EMPTY);
+        }
+        if (metadata.getContentLength() > s3Properties.getPresignedMaxSize()) {
+            amazonS3.deleteObject(bucketName, key);
+            throw new GeneralException(ErrorCode.S3_FILE_TOO_LARGE);
+        }
+
+        String confirmedKey = key.substring(KEY_PREFIX.length());
+        try {
+            amazonS3.copyObject(bucketName, key, bucketName, confirmedKey);
+        } catch (AmazonClientException e) {
+            log.error("presigned 업로드 확정(복사) 실패 - key={}", key, e);
+            throw new GeneralException(ErrorCode.S3_UPLOAD_FAILED);
+        }
+        try {
+            amazonS3.deleteObject(bucketName, key);
+        } catch (AmazonClientException e) {
+            // 정식 객체는 이미 있으므로 실패로 응답하지 않는다. 남은 임시 객체는 S3PresignSweeper가 정리
+            log.warn("presigned 임시 객체 삭제 실패 - key={}", key, e);
+        }
+        return amazonS3.getUrl(bucketName, confirmedKey).toString();
+    }
+
+    private static byte[] toJson(Map<String, Object> policy) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(policy);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업로드 정책 직렬화 실패", e);
+        }
+    }
+
+    /** SigV4 서명: 날짜/리전/서비스로 파생한 서명 키로 base64 정책 문자열을 HMAC-SHA256 */
+    private String sign(String encodedPolicy, Instant now) {
+        byte[] key = ("AWS4" + s3Properties.getSecretKey()).getBytes(StandardCharsets.UTF_8);
+        key = hmac(key, SHORT_DATE.format(now));
+        key = hmac(key, s3Properties.getRegion());
+        key = hmac(key, "s3");
+        key = hmac(key, "aws4_request");
+        return HexFormat.of().formatHex(hmac(key, encodedPolicy));
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패", e);
+        }
+    }
+}
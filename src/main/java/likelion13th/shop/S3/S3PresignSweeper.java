@@ -0,0 +1,77 @@
+package likelion13th.shop.S3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import likelion13th.shop.global.lease.LeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 완료 알림(complete)이 오지 않은 presigned 업로드 임시 객체 정리
+ * - presigned/ 아래 객체 중 (업로드 정책 만료 + graceMillis)보다 오래된 것을 삭제한다.
+ *   정책이 만료된 뒤에는 새 업로드가 불가능하므로, 그 이후에도 남아 있으면 버려진 업로드로 본다.
+ * - 여러 인스턴스 중 임대(LEASE_NAME)를 가진 노드 하나만 실행한다. (삭제는 중복 실행돼도 결과가 같아 토큰 조건은 생략)
+ */
+@Slf4j
+@Component
+public class S3PresignSweeper {
+
+    static final String LEASE_NAME = "presigned-upload-sweep";
+
+    private final AmazonS3 amazonS3;
+    private final S3Properties s3Properties;
+    private final LeaseManager leaseManager;
+    private final long graceMillis;
+
+    public S3PresignSweeper(AmazonS3 amazonS3,
+                            S3Properties s3Properties,
+                            LeaseManager leaseManager,
+                            @Value("${PRESIGNED_SWEEP_GRACE_MILLIS:3600000}") long graceMillis) {
+        this.amazonS3 = amazonS3;
+        this.s3Properties = s3Properties;
+        this.leaseManager = leaseManager;
+        this.graceMillis = graceMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${PRESIGNED_SWEEP_INTERVAL_MILLIS:3600000}")
+    public void sweep() {
+        if (!leaseManager.runIfLeader(LEASE_NAME, token -> purgeAbandoned())) {
+            log.debug("presigned 임시 객체 정리 - 다른 노드가 리더라 건너뜀");
+        }
+    }
+
+    private void purgeAbandoned() {
+        String bucketName = s3Properties.getBucket();
+        Date cutoff = new Date(System.currentTimeMillis()
+                - s3Properties.getPresignedExpirationSeconds() * 1000 - graceMillis);
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(S3PresignService.KEY_PREFIX);
+        int purged = 0;
+
+        try {
+            ListObjectsV2Result result;
+            do {
+                result = amazonS3.listObjectsV2(request);
+                for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                    if (summary.getLastModified().before(cutoff)) {
+                        amazonS3.deleteObject(bucketName, summary.getKey());
+                        purged++;
+                    }
+                }
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+        } catch (AmazonClientException e) {
+            log.error("presigned 임시 객체 정리 실패 - {}건 삭제 후 중단", purged, e);
+            return;
+        }
+        log.info("presigned 임시 객체 정리 완료 - 삭제 {}건", purged);
+    }
+}
@@ -12,4 +12,26 @@ public class S3Properties {
     private String secretKey;
     private String bucket;
     private String region;
+
+    // 로컬 S3 호환 서버(LocalStack, MinIO 등) 주소. 비어 있으면 AWS 기본 엔드포인트 사용
+    private String endpoint;
+
+    // 여러 파일 동시 업로드에 사용할 스레드 수
+    private int uploadThreads = 8;
+
+    // 스트리밍(대용량) 업로드 설정
+    // - 요청 본문을 streamPartSize 단위로 읽어 S3 multipart upload의 part로 올린다. (S3 최소 part 크기 5MB)
+    // - 동시에 메모리에 올라가는 part는 최대 streamMaxInFlightParts개 → 업로드 1건당 메모리 = partSize * inFlight
+    private int streamPartSize = 8 * 1024 * 1024;
+    private int streamMaxInFlightParts = 4;
+    private long streamMaxSize = 200L * 1024 * 1024; // nginx client_max_body_size와 동일
+
+    // presigned URL 직접 업로드 설정
+    private long presignedExpirationSeconds = 600;           // presigned URL 유효 시간(10분)
+    private long presignedMaxSize = 50L * 1024 * 1024;       // 직접 업로드 최대 크기 (기존 multipart 제한과 동일)
+
+    // 변형 이미지 생성 시 디코딩을 허용하는 최대 픽셀 수 (가로 * 세로)
+    // - 압축률이 극단적인 이미지(decompression bomb)는 파일은 작아도 디코딩 시 수 GB를 할당한다.
+    // - 40MP(약 8000x5000) ARGB 디코딩 ≈ 160MB
+    private long imageMaxPixels = 40_000_000L;
 }
\ No newline at end of file
@@ -2,36 +2,233 @@ package likelion13th.shop.S3;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import likelion13th.shop.DTO.response.UploadedFileResponse;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
     private final AmazonS3 amazonS3;
     private final S3Properties s3Properties;
+    private final ExecutorService s3UploadExecutor;
+    private final S3UploadMetrics s3UploadMetrics;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public String uploadFile(MultipartFile file) {
+    // 중복 제거 업로드용: 이미 S3에 있다고 확인된 content key(LRU) → 변형 이미지 존재 여부, HEAD 요청도 생략
+    private final Cache<String, Boolean> knownContentKeys = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public UploadedFileResponse uploadFile(MultipartFile file) {
+        return uploadFiles(new MultipartFile[]{file}, false).get(0);
+    }
+
+    /**
+     * 여러 파일 동시 업로드
+     * - 전용 스레드 풀(s3UploadExecutor)에서 모든 파일을 병렬로 업로드한다.
+     * - 반환되는 URL 순서는 입력 파일 순서와 같다. 파일마다 변형 이미지(썸네일/목록/상세)가 모두 만들어졌는지도 함께 반환
+     * - 변형이 모두 만들어진 URL은 ImageVariantsCreatedEvent로 알린다. (이미 그 URL을 쓰는 상품의 imageVariants 갱신)
+     * - 하나라도 실패하면 즉시 중단: 실패한 업로드 스레드가 바로 중단 표시를 하므로 아직 시작하지 않은 업로드는 건너뛰고,
+     *   이미 올라갔거나 진행 중이던 파일은 완료되는 대로 삭제한 뒤 S3_UPLOAD_FAILED 예외
+     * - 정리는 finally에서 수행하므로 어떤 예외(URL 생성 실패, 취소 등)로 끝나도 업로드한 파일이 남지 않는다.
+     * - dedup=true 이면 내용(SHA-256) 기반 key를 사용해 같은 파일은 다시 올리지 않는다.
+     *   내용 주소 객체는 다른 요청이 이미 재사용하고 있을 수 있으므로 실패해도 삭제하지 않는다.
+     *   (같은 내용이면 key도 같아 다음 업로드가 그대로 재사용, 끝내 참조되지 않는 객체는 버킷 수명 주기 규칙으로 정리)
+     */
+    public List<UploadedFileResponse> uploadFiles(MultipartFile[] files, boolean dedup) {
         String bucketName = s3Properties.getBucket();
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        Set<String> createdKeys = ConcurrentHashMap.newKeySet(); // 이번 요청에서 새로 PUT 한 UUID key (롤백 대상)
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
 
-        String fileName = UUID.randomUUID()+"_"+file.getOriginalFilename();
+        List<CompletableFuture<StoredObject>> futures = new ArrayList<>(files.length);
+        for (MultipartFile file : files) {
+            CompletableFuture<StoredObject> future = CompletableFuture.supplyAsync(() -> {
+                if (aborted.get()) {
+                    throw new CancellationException("다른 파일 업로드 실패로 취소됨");
+                }
+                if (dedup) {
+                    return putDeduplicated(file);
+                }
+                StoredObject stored = putWithVariants(file);
+                createdKeys.add(stored.key());
+                return stored;
+            }, s3UploadExecutor);
+            // 실패가 하나라도 나오면 대기 중인 업로드를 건너뛰고 전체 대기를 바로 끝낸다 (fail-fast)
+            future.whenComplete((stored, ex) -> {
+                if (ex != null) {
+                    aborted.set(true);
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+            futures.add(future);
+        }
 
+        boolean completed = false;
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)), firstFailure)
+                    .join();
+
+            List<UploadedFileResponse> uploaded = new ArrayList<>(files.length);
+            List<String> variantUrls = new ArrayList<>();
+            for (CompletableFuture<StoredObject> future : futures) {
+                StoredObject stored = future.join();
+                String url = amazonS3.getUrl(bucketName, stored.key()).toString();
+                uploaded.add(new UploadedFileResponse(url, stored.imageVariants()));
+                if (stored.imageVariants()) {
+                    variantUrls.add(url);
+                }
+            }
+            completed = true;
+            if (!variantUrls.isEmpty()) {
+                eventPublisher.publishEvent(new ImageVariantsCreatedEvent(variantUrls));
+            }
+            return uploaded;
+        } catch (CompletionException | CancellationException e) {
+            log.error("S3 다중 업로드 실패 - 업로드된 파일 정리 후 중단", e.getCause() != null ? e.getCause() : e);
+            throw new GeneralException(ErrorCode.S3_UPLOAD_FAILED);
+        } finally {
+            if (!completed) {
+                aborted.set(true);
+                cleanUp(bucketName, futures, createdKeys);
+            }
+        }
+    }
+
+    /**
+     * 내용 주소(content-addressed) 업로드
+     * - 파일을 읽으면서 SHA-256을 계산하고, 그 digest를 object key로 사용한다. (sha256/{digest}.{ext})
+     * - 로컬 LRU에 있거나 HEAD로 이미 존재가 확인되면 PUT을 생략하고 기존 key를 그대로 반환
+     *   (HEAD로 확인한 경우 변형 이미지도 HEAD로 확인해 존재 여부를 함께 기억)
+     * - PUT 전에 key가 필요하므로 digest 계산(1회) + 업로드(1회)로 파일을 두 번 읽는다.
+     *   (MultipartFile은 이미 서버에 저장된 상태라 네트워크 전송은 업로드 1회뿐)
+     * - 롤백 대상에 넣지 않는다: PUT 직후 다른 요청이 HEAD/LRU로 같은 key를 재사용할 수 있어,
+     *   이 요청이 실패했다고 지우면 그 요청의 URL이 깨진다. (같은 내용을 다시 PUT 하는 것은 멱등)
+     */
+    private StoredObject putDeduplicated(MultipartFile file) {
+        String key = contentKey(file);
+        Boolean known = knownContentKeys.getIfPresent(key);
+        if (known != null) {
+            return new StoredObject(key, known);
+        }
+        if (amazonS3.doesObjectExist(s3Properties.getBucket(), key)) {
+            boolean variants = imageVariantService.hasAllVariants(key);
+            knownContentKeys.put(key, variants);
+            return new StoredObject(key, variants);
+        }
+        putObject(file, key);
+        boolean variants = createVariants(file, key);
+        knownContentKeys.put(key, variants);
+        return new StoredObject(key, variants);
+    }
+
+    private String contentKey(MultipartFile file) {
+        try (DigestInputStream in = new DigestInputStream(file.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            String ext = StringUtils.getFilenameExtension(file.getOriginalFilename());
+            String digest = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            return "sha256/" + digest + (ext == null ? "" : "." + ext.toLowerCase());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("파일 해시 계산 실패", e);
+        }
+    }
+
+    /**
+     * 원본 업로드 + 리사이즈 변형(썸네일/목록/상세) 생성
+     * - 변형 key는 ImageVariant 규칙으로 원본 key에서 계산되므로 원본 key와 변형 생성 여부만 반환한다.
+     */
+    private StoredObject putWithVariants(MultipartFile file) {
+        String key = putObject(file, UUID.randomUUID()+"_"+file.getOriginalFilename());
+        return new StoredObject(key, createVariants(file, key));
+    }
+
+    /** 변형 이미지 생성 → 모든 ImageVariant가 올라갔으면 true (일부만 성공하면 원본 URL을 써야 하므로 false) */
+    private boolean createVariants(MultipartFile file, String key) {
+        try (InputStream in = file.getInputStream()) {
+            return imageVariantService.createVariants(in, key).size() == ImageVariant.values().length;
+        } catch (IOException e) {
+            log.warn("이미지 변형 생성을 위한 파일 읽기 실패 - key={}", key, e);
+            return false;
+        }
+    }
+
+    /** 단일 파일 PUT 후 object key 반환 (소요 시간 기록) */
+    private String putObject(MultipartFile file, String fileName) {
+        String bucketName = s3Properties.getBucket();
+
+        long startedAt = System.currentTimeMillis();
+        boolean success = false;
         try {
             ObjectMetadata metadata = new ObjectMetadata();
             metadata.setContentType(file.getContentType());
             metadata.setContentLength(file.getSize());
 
             amazonS3.putObject(bucketName, fileName, file.getInputStream(), metadata);
-
-            return amazonS3.getUrl(bucketName, fileName).toString();
+            success = true;
+            return fileName;
         }catch (IOException e){
             throw new RuntimeException("S3 파일 업로드 실패", e);
+        } finally {
+            long elapsed = System.currentTimeMillis() - startedAt;
+            s3UploadMetrics.record(elapsed, success);
+            log.debug("S3 업로드 {} - key={}, {}ms", success ? "성공" : "실패", fileName, elapsed);
         }
     }
+
+    /**
+     * 실패 시 정리: 이번 요청에서 새로 올린 UUID key 파일만 삭제
+     * - 이미 끝난 업로드는 바로, 진행 중이던 업로드는 끝나는 시점에 삭제된다.
+     * - 내용 주소(sha256/) 객체는 이 요청이 올렸더라도 다른 요청이 공유할 수 있으므로 지우지 않는다.
+     */
+    private void cleanUp(String bucketName, List<CompletableFuture<StoredObject>> futures, Set<String> createdKeys) {
+        for (CompletableFuture<StoredObject> future : futures) {
+            future.thenAccept(stored -> {
+                String key = stored.key();
+                if (!createdKeys.contains(key)) {
+                    return;
+                }
+                try {
+                    amazonS3.deleteObject(bucketName, key);
+                    imageVariantService.deleteVariants(key);
+                } catch (Exception e) {
+                    log.warn("S3 업로드 정리 실패 - key={}", key, e);
+                }
+            });
+        }
+    }
+
+    // 업로드된 원본 key + 변형 이미지가 모두 만들어졌는지
+    private record StoredObject(String key, boolean imageVariants) {
+    }
 }
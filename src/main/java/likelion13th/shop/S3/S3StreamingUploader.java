@@ -0,0 +1,193 @@
+package likelion13th.shop.S3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 대용량 파일 스트리밍 업로드 (S3 multipart upload 저수준 API)
+ * - 요청 본문(InputStream)을 고정 크기(part) 단위로 읽으면서 바로 S3 part로 업로드한다.
+ *   → 파일 전체를 디스크/메모리에 먼저 저장하지 않는다.
+ * - part 업로드는 s3UploadExecutor에서 병렬로 처리하되, 동시에 메모리에 있는 part 수를
+ *   Semaphore로 제한하여 업로드 1건당 메모리 사용량이 partSize * maxInFlight를 넘지 않는다.
+ *   (허가를 받은 뒤에 part 버퍼를 만든다)
+ * - 본문이 비어 있으면 S3_FILE_EMPTY (multipart upload를 시작하지 않음)
+ * - 중간에 실패하거나 최대 크기를 넘으면 multipart upload를 abort하여 미완성 part가 남지 않게 한다.
+ * - S3 호출 실패(AmazonClientException: 시작/part/완료 요청 모두)는 S3_UPLOAD_FAILED로 변환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StreamingUploader {
+
+    private final AmazonS3 amazonS3;
+    private final S3Properties s3Properties;
+    private final ExecutorService s3UploadExecutor;
+    private final S3UploadMetrics s3UploadMetrics;
+
+    /**
+     * 스트림 업로드 후 URL 반환
+     *
+     * @param in               요청 본문 스트림 (호출부에서 닫음)
+     * @param contentType      Content-Type (S3 메타데이터로 저장)
+     * @param originalFilename 원본 파일명 (object key 생성용)
+     */
+    public String upload(InputStream in, String contentType, String originalFilename) {
+        String bucketName = s3Properties.getBucket();
+        String key = UUID.randomUUID() + "_" + originalFilename;
+        int partSize = s3Properties.getStreamPartSize();
+        long maxSize = s3Properties.getStreamMaxSize();
+
+        Semaphore inFlight = new Semaphore(s3Properties.getStreamMaxInFlightParts());
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+        String uploadId = null; // 시작 전(빈 본문)이거나 시작 요청이 실패하면 abort할 upload도 없다
+        boolean completed = false;
+
+        try {
+            int partNumber = 1;
+            while (true) {
+                // 동시에 메모리에 있는 part 수 제한 (메모리 상한) → 버퍼를 만들기 전에 허가를 받는다.
+                // (허가는 part 업로드가 끝나면 반납, 제출하지 않은 버퍼면 바로 반납)
+                inFlight.acquire();
+                boolean submitted = false;
+                int read;
+                try {
+                    byte[] buffer = new byte[partSize];
+                    read = readFully(in, buffer);
+                    if (read == 0) {
+                        // 본문이 비어 있으면(chunked 요청이라 길이를 미리 몰랐던 경우) 빈 객체를 만들지 않는다.
+                        if (partNumber == 1) {
+                            throw new GeneralException(ErrorCode.S3_FILE_EMPTY);
+                        }
+                        break;
+                    }
+                    total += read;
+                    if (total > maxSize) {
+                        throw new GeneralException(ErrorCode.S3_FILE_TOO_LARGE);
+                    }
+                    // 첫 part를 읽은 뒤에 multipart upload 시작 (빈 본문이면 S3 호출 없음)
+                    if (uploadId == null) {
+                        ObjectMetadata metadata = new ObjectMetadata();
+                        metadata.setContentType(contentType);
+                        uploadId = amazonS3.initiateMultipartUpload(
+                                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+                    }
+                    parts.add(uploadPart(bucketName, key, uploadId, partNumber++, buffer, read, inFlight));
+                    submitted = true;
+                } finally {
+                    if (!submitted) {
+                        inFlight.release();
+                    }
+                }
+
+                // 실패한 part가 있으면 더 읽지 않고 중단
+                failFast(parts);
+                if (read < partSize) {
+                    break;
+                }
+            }
+
+            List<PartETag> etags = new ArrayList<>(parts.size());
+            for (CompletableFuture<PartETag> part : parts) {
+                etags.add(part.join());
+            }
+            etags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, etags));
+            completed = true;
+            log.info("S3 스트리밍 업로드 완료 - key={}, {}bytes, parts={}", key, total, etags.size());
+            return amazonS3.getUrl(bucketName, key).toString();
+
+        } catch (GeneralException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorCode.S3_UPLOAD_FAILED);
+        } catch (IOException | CompletionException | AmazonClientException e) {
+            log.error("S3 스트리밍 업로드 실패 - key={}", key, e);
+            throw new GeneralException(ErrorCode.S3_UPLOAD_FAILED);
+        } finally {
+            s3UploadMetrics.record(System.currentTimeMillis() - startedAt, completed);
+            if (!completed && uploadId != null) {
+                abort(bucketName, key, uploadId, parts);
+            }
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPart(String bucketName, String key, String uploadId,
+                                                   int partNumber, byte[] buffer, int length, Semaphore inFlight) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length);
+                return amazonS3.uploadPart(request).getPartETag();
+            } finally {
+                inFlight.release();
+            }
+        }, s3UploadExecutor);
+    }
+
+    /** 이미 실패한 part가 있으면 예외로 즉시 중단 */
+    private void failFast(List<CompletableFuture<PartETag>> parts) {
+        for (CompletableFuture<PartETag> part : parts) {
+            if (part.isCompletedExceptionally()) {
+                part.join();
+            }
+        }
+    }
+
+    /** 미완성 multipart upload 정리 (진행 중인 part가 끝난 뒤 abort) */
+    private void abort(String bucketName, String key, String uploadId, List<CompletableFuture<PartETag>> parts) {
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, ex) -> {
+                    try {
+                        amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+                        log.warn("S3 스트리밍 업로드 중단 - key={}", key);
+                    } catch (Exception e) {
+                        log.error("S3 multipart upload abort 실패 - key={}, uploadId={}", key, uploadId, e);
+                    }
+                });
+    }
+
+    /** buffer가 가득 차거나 스트림이 끝날 때까지 읽고, 읽은 바이트 수 반환 */
+    private int readFully(InputStream in, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int n = in.read(buffer, offset, buffer.length - offset);
+            if (n < 0) {
+                break;
+            }
+            offset += n;
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,48 @@
+package likelion13th.shop.S3;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * S3 업로드 지연 시간 통계
+ * - 파일 1개 업로드(PUT)마다 소요 시간을 기록한다.
+ * - 성공/실패 건수, 누적/최대 소요 시간을 제공해 평균 지연을 확인할 수 있다.
+ */
+@Component
+public class S3UploadMetrics {
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+    public void record(long elapsedMillis, boolean success) {
+        if (success) {
+            successCount.increment();
+        } else {
+            failureCount.increment();
+        }
+        totalMillis.add(elapsedMillis);
+        maxMillis.accumulate(elapsedMillis);
+    }
+
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getMaxMillis() {
+        return maxMillis.get();
+    }
+
+    /** 평균 업로드 소요 시간(ms) */
+    public double getAverageMillis() {
+        long count = successCount.sum() + failureCount.sum();
+        return count == 0 ? 0 : (double) totalMillis.sum() / count;
+    }
+}
@@ -0,0 +1,64 @@
+package likelion13th.shop.catalog;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.domain.Item;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Item / Category 엔티티 변경 감지 → 카탈로그 스냅샷 갱신 요청
+ * - Item: 변경된 상품 하나만 스냅샷에 증분 반영 (가상 카테고리 소속도 함께 갱신)
+ * - Category: 카테고리 자체의 추가/수정/삭제 → 전체 재구성
+ *   (Category.items 컬렉션만 바뀐 경우는 엔티티 콜백이 호출되지 않으므로 CatalogCollectionChangeListener가 처리)
+ * - 커밋 전에 반영하면 롤백된 변경이 보일 수 있으므로 커밋 이후에 요청한다.
+ * - EntityManagerFactory 생성 중에 만들어지므로 스냅샷 관리자는 @Lazy로 주입 (순환 참조 방지)
+ */
+@Component
+public class CatalogChangeListener {
+
+    private final CatalogSnapshotManager catalogSnapshotManager;
+
+    public CatalogChangeListener(@Lazy CatalogSnapshotManager catalogSnapshotManager) {
+        this.catalogSnapshotManager = catalogSnapshotManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(Object entity) {
+        if (entity instanceof Item item) {
+            // 콜백 시점의 값으로 고정해 두고 커밋 후 반영
+            ItemResponse changed = ItemResponse.from(item);
+            afterCommit(() -> catalogSnapshotManager.applyItemChange(changed));
+            return;
+        }
+        afterCommit(catalogSnapshotManager::requestRebuild);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Item item) {
+            long itemId = item.getId();
+            afterCommit(() -> catalogSnapshotManager.applyItemRemoval(itemId));
+            return;
+        }
+        afterCommit(catalogSnapshotManager::requestRebuild);
+    }
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
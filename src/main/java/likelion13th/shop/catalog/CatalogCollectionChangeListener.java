@@ -0,0 +1,61 @@
+package likelion13th.shop.catalog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import likelion13th.shop.domain.Category;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category.items(category_item 매핑) 변경 감지 → 카탈로그 스냅샷 전체 재구성 요청
+ * - 컬렉션만 바뀌면 Category 엔티티는 dirty가 아니라 @PostUpdate가 호출되지 않는다. (CatalogChangeListener로는 못 잡음)
+ *   Hibernate 컬렉션 이벤트(갱신/재생성)를 직접 등록해 매핑 변경도 커밋 후 재구성한다.
+ * - Item.categories는 mappedBy 쪽이라 DB에 반영되지 않으므로 Category 쪽 변경만 본다.
+ * - DB에 직접 넣은 매핑은 여전히 주기적 재구성(CATALOG_REFRESH_MILLIS)으로 반영된다.
+ */
+@Component
+public class CatalogCollectionChangeListener
+        implements PostCollectionUpdateEventListener, PostCollectionRecreateEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogSnapshotManager catalogSnapshotManager;
+
+    public CatalogCollectionChangeListener(EntityManagerFactory entityManagerFactory,
+                                           @Lazy CatalogSnapshotManager catalogSnapshotManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogSnapshotManager = catalogSnapshotManager;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onChange(event);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onChange(event);
+    }
+
+    private void onChange(AbstractCollectionEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof Category) {
+            CatalogChangeListener.afterCommit(catalogSnapshotManager::requestRebuild);
+        }
+    }
+}
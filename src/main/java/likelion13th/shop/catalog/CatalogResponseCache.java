@@ -0,0 +1,98 @@
+package likelion13th.shop.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import likelion13th.shop.DTO.response.ItemPageResponse;
+import likelion13th.shop.global.api.ApiResponse;
+import likelion13th.shop.global.api.SuccessCode;
+import likelion13th.shop.service.CategoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카테고리 상품 목록 응답(JSON) 사전 직렬화 캐시
+ * - 응답 본문(ApiResponse<ItemPageResponse>)을 byte[]로 직렬화 + gzip 압축해 두고 그대로 내려준다.
+ * - ETag는 본문 SHA-256 기반 strong ETag (gzip 본문은 "-gzip" 접미사로 구분)
+ * - 스냅샷이 교체되면 전부 비우고, 카테고리별 첫 페이지(기본 크기)는 바로 다시 만들어 둔다.
+ *   그 외 cursor/size 조합은 처음 요청될 때 만들어 캐싱 (최대 CATALOG_RESPONSE_CACHE_SIZE 건)
+ * - key에 스냅샷 version이 포함되므로 교체 직후에도 이전 버전 응답이 나가지 않는다.
+ */
+@Slf4j
+@Component
+public class CatalogResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Rendered> cache;
+
+    public CatalogResponseCache(ObjectMapper objectMapper,
+                                @Value("${CATALOG_RESPONSE_CACHE_SIZE:2000}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 스냅샷 기준 응답 조회 (없으면 생성)
+     * - 존재하지 않는 카테고리면 empty → 호출부에서 일반 처리 경로(에러 응답)로 넘긴다.
+     */
+    public Optional<Rendered> get(CatalogSnapshot snapshot, Long categoryId, Long cursor, int size) {
+        if (!snapshot.hasCategory(categoryId)) {
+            return Optional.empty();
+        }
+        Key key = new Key(snapshot.getVersion(), categoryId, cursor, size);
+        return Optional.of(cache.get(key, k -> render(snapshot, categoryId, cursor, size)));
+    }
+
+    @EventListener
+    public void onSnapshotChanged(CatalogSnapshotChangedEvent event) {
+        CatalogSnapshot snapshot = event.snapshot();
+        cache.invalidateAll();
+        snapshot.categoryIds().forEach(categoryId -> get(snapshot, categoryId, null, CategoryService.DEFAULT_PAGE_SIZE));
+        log.debug("카탈로그 응답 캐시 재생성 - version={}, entries={}", snapshot.getVersion(), cache.estimatedSize());
+    }
+
+    // CategoryController와 같은 응답 형식으로 직렬화
+    private Rendered render(CatalogSnapshot snapshot, Long categoryId, Long cursor, int size) {
+        ItemPageResponse page = snapshot.categoryPage(categoryId, cursor, size);
+        SuccessCode code = page.getItems().isEmpty()
+                ? SuccessCode.CATEGORY_ITEMS_EMPTY
+                : SuccessCode.CATEGORY_ITEMS_GET_SUCCESS;
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(code, page));
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 16);
+            return new Rendered(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("카테고리 응답 직렬화 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("gzip 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Key(long version, Long categoryId, Long cursor, int size) {
+    }
+
+    /** 직렬화된 응답 (원본/gzip 본문과 각각의 ETag) */
+    public record Rendered(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+}
@@ -0,0 +1,120 @@
+package likelion13th.shop.catalog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import likelion13th.shop.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GET /categories/{categoryId}/items 사전 직렬화 응답 필터
+ * - 카탈로그 스냅샷이 준비되어 있으면 컨트롤러/서비스/Jackson을 거치지 않고 캐시된 byte[]를 바로 내려준다.
+ * - If-None-Match가 현재 ETag와 같으면 본문 없이 304
+ * - Accept-Encoding에 gzip이 있으면 미리 압축해 둔 본문을 내려준다.
+ * - 스냅샷이 없거나, 존재하지 않는 카테고리/잘못된 파라미터 등은 그대로 다음 체인(컨트롤러)으로 넘겨
+ *   기존과 같은 응답/에러 처리를 받는다.
+ * - 서블릿 필터 순서상 Spring Security 필터 체인 뒤에서 실행되므로 CORS 등 보안 헤더는 그대로 적용된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogResponseFilter extends OncePerRequestFilter {
+
+    private static final Pattern PATH = Pattern.compile("^/categories/(\\d+)/items/?$");
+
+    private final CatalogSnapshotManager catalogSnapshotManager;
+    private final CatalogResponseCache catalogResponseCache;
+
+    @Value("${CATALOG_CACHE_MAX_AGE_SECONDS:60}")
+    private long maxAgeSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !PATH.matcher(request.getServletPath()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CatalogSnapshot snapshot = catalogSnapshotManager.current();
+        if (snapshot == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<CatalogResponseCache.Rendered> rendered;
+        try {
+            Matcher matcher = PATH.matcher(request.getServletPath());
+            matcher.matches();
+            Long categoryId = Long.valueOf(matcher.group(1));
+            String cursorParam = request.getParameter("cursor");
+            String sizeParam = request.getParameter("size");
+            Long cursor = cursorParam == null || cursorParam.isEmpty() ? null : Long.valueOf(cursorParam);
+            int size = sizeParam == null || sizeParam.isEmpty() ? CategoryService.DEFAULT_PAGE_SIZE : Integer.parseInt(sizeParam);
+            size = Math.max(1, Math.min(size, CategoryService.MAX_PAGE_SIZE));
+            rendered = catalogResponseCache.get(snapshot, categoryId, cursor, size);
+        } catch (NumberFormatException e) {
+            // 파라미터 오류는 컨트롤러의 바인딩 에러 응답으로 처리
+            chain.doFilter(request, response);
+            return;
+        }
+        if (rendered.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CatalogResponseCache.Rendered body = rendered.get();
+        boolean gzip = acceptsGzip(request);
+        String etag = gzip ? body.gzipEtag() : body.etag();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAgeSeconds);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matchesEtag(ifNoneMatch, body)) {
+            // 304에는 200이었다면 보냈을 ETag(이번에 선택된 인코딩 기준)를 싣는다.
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] bytes = gzip ? body.gzip() : body.json();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    // If-None-Match 목록에 "*" 또는 현재 본문의 ETag(원본/gzip 어느 쪽이든 내용은 같음)가 있는지
+    private boolean matchesEtag(String ifNoneMatch, CatalogResponseCache.Rendered body) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || tag.equals(body.etag()) || tag.equals(body.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,260 @@
+package likelion13th.shop.catalog;
+
+import likelion13th.shop.DTO.response.ItemPageResponse;
+import likelion13th.shop.DTO.response.ItemResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 카탈로그 불변 스냅샷
+ * - itemIds / items: item_id 오름차순으로 정렬된 상품 테이블 (같은 인덱스끼리 짝)
+ * - categoryItemIds: 카테고리 id → 소속 item_id 배열 (오름차순)
+ *   가상 카테고리(VirtualCategory)도 조건으로 미리 계산한 소속 목록이 같은 방식으로 들어 있다.
+ * - 한 번 만들어지면 바뀌지 않으므로 여러 요청이 락 없이 동시에 읽어도 안전하다.
+ *   (갱신은 새 스냅샷을 만들어 통째로 교체, 상품 하나 변경은 withItem/withoutItem으로 부분 복사)
+ * - fingerprint는 항목별 해시의 합(mod 2^64)이라 순서와 무관하고, 부분 복사 시 바뀐 항목의 해시만 빼고 더해 이어받는다.
+ *   (전체 재계산은 build에서만)
+ */
+public final class CatalogSnapshot {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final long version;
+    private final long fingerprint;
+    private final Instant builtAt;
+    private final long[] itemIds;
+    private final ItemResponse[] items;
+    private final Map<Long, long[]> categoryItemIds;
+
+    private CatalogSnapshot(long version, long[] itemIds, ItemResponse[] items, Map<Long, long[]> categoryItemIds,
+                            long fingerprint) {
+        this.version = version;
+        this.builtAt = Instant.now();
+        this.itemIds = itemIds;
+        this.items = items;
+        this.categoryItemIds = Map.copyOf(categoryItemIds);
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * 전체 데이터로 스냅샷 생성
+     * - items: item_id 오름차순
+     * - categoryItemIds: 실제 카테고리(category_item) 매핑, 가상 카테고리 소속은 여기서 계산해 덮어쓴다.
+     */
+    static CatalogSnapshot build(long version, ItemResponse[] items, Map<Long, long[]> categoryItemIds) {
+        long[] itemIds = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            itemIds[i] = items[i].getId();
+        }
+        Map<Long, long[]> categories = new HashMap<>(categoryItemIds);
+        for (VirtualCategory virtual : VirtualCategory.values()) {
+            categories.put(virtual.getId(), members(virtual, itemIds, items));
+        }
+        return new CatalogSnapshot(version, itemIds, items, categories, fingerprint(items, categories));
+    }
+
+    /**
+     * 상품 하나가 추가/수정된 새 스냅샷 (DB 재조회 없이 증분 반영)
+     * - 상품 테이블과 가상 카테고리 소속만 갱신한다.
+     *   (실제 카테고리 매핑은 Category 쪽 변경이므로 전체 재구성으로 반영)
+     */
+    CatalogSnapshot withItem(long newVersion, ItemResponse item) {
+        long id = item.getId();
+        int idx = Arrays.binarySearch(itemIds, id);
+        long[] ids;
+        ItemResponse[] rows;
+        long nextFingerprint = fingerprint + itemHash(item);
+        if (idx >= 0) {
+            ids = itemIds;
+            rows = items.clone();
+            rows[idx] = item;
+            nextFingerprint -= itemHash(items[idx]);
+        } else {
+            int at = -idx - 1;
+            ids = insert(itemIds, at, id);
+            rows = new ItemResponse[items.length + 1];
+            System.arraycopy(items, 0, rows, 0, at);
+            rows[at] = item;
+            System.arraycopy(items, at, rows, at + 1, items.length - at);
+        }
+
+        Map<Long, long[]> categories = new HashMap<>(categoryItemIds);
+        for (VirtualCategory virtual : VirtualCategory.values()) {
+            long[] members = categories.getOrDefault(virtual.getId(), EMPTY);
+            int pos = Arrays.binarySearch(members, id);
+            if (virtual.matches(item) && pos < 0) {
+                categories.put(virtual.getId(), insert(members, -pos - 1, id));
+                nextFingerprint += memberHash(virtual.getId(), id);
+            } else if (!virtual.matches(item) && pos >= 0) {
+                categories.put(virtual.getId(), remove(members, pos));
+                nextFingerprint -= memberHash(virtual.getId(), id);
+            }
+        }
+        return new CatalogSnapshot(newVersion, ids, rows, categories, nextFingerprint);
+    }
+
+    /** 상품 하나가 삭제된 새 스냅샷 (모든 카테고리에서 제외) */
+    CatalogSnapshot withoutItem(long newVersion, long itemId) {
+        int idx = Arrays.binarySearch(itemIds, itemId);
+        if (idx < 0) {
+            return this;
+        }
+        ItemResponse[] rows = new ItemResponse[items.length - 1];
+        System.arraycopy(items, 0, rows, 0, idx);
+        System.arraycopy(items, idx + 1, rows, idx, items.length - idx - 1);
+
+        long nextFingerprint = fingerprint - itemHash(items[idx]);
+        Map<Long, long[]> categories = new HashMap<>(categoryItemIds);
+        for (Map.Entry<Long, long[]> entry : categories.entrySet()) {
+            int pos = Arrays.binarySearch(entry.getValue(), itemId);
+            if (pos >= 0) {
+                entry.setValue(remove(entry.getValue(), pos));
+                nextFingerprint -= memberHash(entry.getKey(), itemId);
+            }
+        }
+        return new CatalogSnapshot(newVersion, remove(itemIds, idx), rows, categories, nextFingerprint);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** 내용 해시 (내용이 같으면 같은 값 → 불필요한 버전 증가 방지) */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    /** 전체 상품 (item_id 오름차순, 읽기 전용) */
+    public List<ItemResponse> items() {
+        return Collections.unmodifiableList(Arrays.asList(items));
+    }
+
+    public Set<Long> categoryIds() {
+        return categoryItemIds.keySet();
+    }
+
+    /** 카테고리 소속 item_id (오름차순 복사본, 없는 카테고리면 빈 배열) */
+    public long[] categoryItems(Long categoryId) {
+        return categoryItemIds.getOrDefault(categoryId, EMPTY).clone();
+    }
+
+    public boolean hasCategory(Long categoryId) {
+        return categoryItemIds.containsKey(categoryId);
+    }
+
+    /** item_id로 상품 조회 (없으면 null) */
+    public ItemResponse item(long itemId) {
+        int idx = Arrays.binarySearch(itemIds, itemId);
+        return idx >= 0 ? items[idx] : null;
+    }
+
+    /** 카테고리(가상 카테고리 포함) 상품 keyset 페이지 (존재하지 않는 카테고리면 빈 페이지) */
+    public ItemPageResponse categoryPage(Long categoryId, Long cursor, int size) {
+        return page(categoryItemIds.getOrDefault(categoryId, EMPTY), cursor, size);
+    }
+
+    // ids(오름차순)에서 cursor 다음 위치부터 size 건
+    private ItemPageResponse page(long[] ids, Long cursor, int size) {
+        int start = 0;
+        if (cursor != null) {
+            int pos = Arrays.binarySearch(ids, cursor);
+            start = pos >= 0 ? pos + 1 : -pos - 1;
+        }
+        int end = Math.min(ids.length, start + size);
+
+        List<ItemResponse> page = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            ItemResponse item = item(ids[i]);
+            if (item != null) {
+                page.add(item);
+            }
+        }
+        boolean hasNext = end < ids.length;
+        Long nextCursor = hasNext ? ids[end - 1] : null;
+        return new ItemPageResponse(page, nextCursor, hasNext);
+    }
+
+    private static long[] members(VirtualCategory virtual, long[] itemIds, ItemResponse[] items) {
+        long[] buffer = new long[items.length];
+        int n = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (virtual.matches(items[i])) {
+                buffer[n++] = itemIds[i];
+            }
+        }
+        return Arrays.copyOf(buffer, n);
+    }
+
+    private static long[] insert(long[] array, int at, long value) {
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, at);
+        result[at] = value;
+        System.arraycopy(array, at, result, at + 1, array.length - at);
+        return result;
+    }
+
+    private static long[] remove(long[] array, int at) {
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, at);
+        System.arraycopy(array, at + 1, result, at, array.length - at - 1);
+        return result;
+    }
+
+    // 스냅샷 전체 fingerprint = 상품 해시 + 카테고리 해시 + (카테고리, 소속 상품) 해시의 합
+    private static long fingerprint(ItemResponse[] items, Map<Long, long[]> categoryItemIds) {
+        long sum = 0;
+        for (ItemResponse item : items) {
+            sum += itemHash(item);
+        }
+        for (Map.Entry<Long, long[]> entry : categoryItemIds.entrySet()) {
+            sum += mix(entry.getKey());
+            for (long id : entry.getValue()) {
+                sum += memberHash(entry.getKey(), id);
+            }
+        }
+        return sum;
+    }
+
+    // 상품 한 건의 SHA-256 앞 8바이트
+    private static long itemHash(ItemResponse item) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((item.getId() + "|" + item.getName() + "|" + item.getPrice() + "|" + item.getBrand()
+                    + "|" + item.getImagePath() + "|" + item.getIsNew() + "|" + item.isImageVariants())
+                    .getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static long memberHash(long categoryId, long itemId) {
+        return mix(mix(categoryId) + itemId);
+    }
+
+    // SplitMix64 finalizer (입력 1비트 차이가 출력 전체에 퍼지도록)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,14 @@
+package likelion13th.shop.catalog;
+
+/**
+ * 카탈로그 스냅샷이 새 버전으로 교체되었을 때 발행되는 이벤트
+ * - changedItemId: 상품 하나만 증분 반영된 경우 그 item_id (전체 재구성이면 null)
+ *   새 스냅샷에 해당 상품이 없으면 삭제된 것
+ * - 모든 이벤트는 재구성 스레드 하나에서 순서대로 발행된다.
+ */
+public record CatalogSnapshotChangedEvent(CatalogSnapshot snapshot, Long changedItemId) {
+
+    public boolean isFullRebuild() {
+        return changedItemId == null;
+    }
+}
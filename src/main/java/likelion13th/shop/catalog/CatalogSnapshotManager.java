@@ -0,0 +1,185 @@
+package likelion13th.shop.catalog;
+
+import jakarta.annotation.PreDestroy;
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.repository.CategoryRepository;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.projection.CategoryItemLink;
+import likelion13th.shop.repository.projection.ItemSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카탈로그 스냅샷 관리
+ * - 현재 스냅샷은 AtomicReference 하나로 관리 → 읽기는 current() 한 번으로 끝 (DB 접근/락 없음)
+ * - 재구성은 전용 스레드에서만 수행하고, 완성된 스냅샷을 통째로 교체한다.
+ * - 재구성 시점: 애플리케이션 시작, 카테고리(카테고리-상품 매핑 포함) 변경 커밋 후, 주기적(CATALOG_REFRESH_MILLIS)
+ * - 상품 하나의 추가/수정/삭제는 DB 재조회 없이 현재 스냅샷에 증분 반영한다. (가상 카테고리 소속 포함)
+ *   (DB에 직접 넣은 데이터는 엔티티 이벤트가 없으므로 주기적 재구성으로 반영)
+ * - 재구성 요청이 몰려도 대기 중인 작업은 하나만 유지한다.
+ * - 내용이 이전과 같으면 교체하지 않으므로 version은 실제로 바뀌었을 때만 증가한다.
+ * - 교체되면 CatalogSnapshotChangedEvent를 발행한다. (응답 캐시 재생성 등)
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotManager {
+
+    private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogSnapshotManager(ItemRepository itemRepository,
+                                  CategoryRepository categoryRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /** 현재 스냅샷 (아직 한 번도 만들어지지 않았으면 null → 호출부에서 DB 조회) */
+    public CatalogSnapshot current() {
+        return current.get();
+    }
+
+    /** 재구성 요청 (비동기, 이미 대기 중이면 합쳐짐) */
+    public void requestRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildPending.set(false);
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("카탈로그 스냅샷 재구성 실패 - 기존 스냅샷 유지", e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        requestRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${CATALOG_REFRESH_MILLIS:300000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    /** 상품 추가/수정 증분 반영 (비동기, 재구성과 같은 스레드에서 순서대로 처리) */
+    public void applyItemChange(ItemResponse item) {
+        rebuilder.execute(() -> {
+            CatalogSnapshot previous = current.get();
+            if (previous == null) {
+                requestRebuild();
+                return;
+            }
+            swap(previous, previous.withItem(previous.getVersion() + 1, item), item.getId(), "상품 변경");
+        });
+    }
+
+    /** 상품 삭제 증분 반영 */
+    public void applyItemRemoval(long itemId) {
+        rebuilder.execute(() -> {
+            CatalogSnapshot previous = current.get();
+            if (previous == null) {
+                requestRebuild();
+                return;
+            }
+            swap(previous, previous.withoutItem(previous.getVersion() + 1, itemId), itemId, "상품 삭제");
+        });
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        // 상품/카테고리/매핑을 하나의 읽기 전용 트랜잭션에서 조회해 서로 어긋나지 않게 한다.
+        CatalogData data = readOnlyTx.execute(status -> new CatalogData(
+                itemRepository.findAllSummaries(),
+                categoryRepository.findAllIds(),
+                categoryRepository.findAllItemLinks()
+        ));
+
+        ItemResponse[] items = data.items().stream()
+                .map(ItemResponse::from)
+                .toArray(ItemResponse[]::new);
+        Map<Long, long[]> categoryItemIds = groupByCategory(data.categoryIds(), data.links());
+
+        CatalogSnapshot previous = current.get();
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+        swap(previous, CatalogSnapshot.build(version, items, categoryItemIds), null,
+                "전체 재구성 " + (System.currentTimeMillis() - startedAt) + "ms");
+    }
+
+    // 내용이 바뀐 경우에만 교체 + 이벤트 발행 (rebuilder 스레드에서만 호출)
+    private void swap(CatalogSnapshot previous, CatalogSnapshot next, Long changedItemId, String reason) {
+        if (previous != null && previous.getFingerprint() == next.getFingerprint()) {
+            log.debug("카탈로그 변경 없음 - version={} 유지 ({})", previous.getVersion(), reason);
+            return;
+        }
+        current.set(next);
+        log.info("카탈로그 스냅샷 교체 - version={}, items={}, categories={} ({}{})",
+                next.getVersion(), next.itemCount(), next.categoryIds().size(), reason,
+                changedItemId == null ? "" : " item_id=" + changedItemId);
+        eventPublisher.publishEvent(new CatalogSnapshotChangedEvent(next, changedItemId));
+    }
+
+    // links는 (category_id, item_id) 오름차순 정렬 상태
+    private Map<Long, long[]> groupByCategory(List<Long> categoryIds, List<CategoryItemLink> links) {
+        Map<Long, long[]> result = new HashMap<>();
+        for (Long categoryId : categoryIds) {
+            result.put(categoryId, new long[0]);
+        }
+        int i = 0;
+        while (i < links.size()) {
+            Long categoryId = links.get(i).getCategoryId();
+            int j = i;
+            while (j < links.size() && links.get(j).getCategoryId().equals(categoryId)) {
+                j++;
+            }
+            long[] ids = new long[j - i];
+            for (int k = i; k < j; k++) {
+                ids[k - i] = links.get(k).getItemId();
+            }
+            result.put(categoryId, ids);
+            i = j;
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        rebuilder.shutdown();
+        rebuilder.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record CatalogData(List<ItemSummary> items, List<Long> categoryIds, List<CategoryItemLink> links) {
+    }
+}
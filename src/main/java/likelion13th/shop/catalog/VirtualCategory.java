@@ -0,0 +1,45 @@
+package likelion13th.shop.catalog;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 카테고리 정의
+ * - category_item 매핑 대신 상품 속성 조건(predicate)으로 소속 상품이 정해지는 카테고리
+ * - 소속 상품 목록은 카탈로그 스냅샷 생성/상품 변경 시점에 미리 계산되므로, 조회는 일반 카테고리와 같다.
+ * - 가격대/브랜드 등 새 가상 카테고리는 여기에 (id, 조건)만 추가하면 된다.
+ *   id는 category 테이블의 id와 겹치지 않게 정해야 하며, 겹치면 가상 카테고리 정의가 우선한다.
+ *   ex) UNDER_10000(1001L, item -> item.getPrice() <= 10000)
+ */
+public enum VirtualCategory {
+    NEW_ITEMS(3L, ItemResponse::getIsNew); // 신상품
+
+    private static final Map<Long, VirtualCategory> BY_ID = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(VirtualCategory::getId, Function.identity()));
+
+    private final Long id;
+    private final Predicate<ItemResponse> predicate;
+
+    VirtualCategory(Long id, Predicate<ItemResponse> predicate) {
+        this.id = id;
+        this.predicate = predicate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean matches(ItemResponse item) {
+        return predicate.test(item);
+    }
+
+    public static Optional<VirtualCategory> of(Long categoryId) {
+        return Optional.ofNullable(BY_ID.get(categoryId));
+    }
+}
@@ -2,18 +2,21 @@ package likelion13th.shop.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.DTO.response.ItemFacetResponse;
+import likelion13th.shop.DTO.response.ItemPageResponse;
 import likelion13th.shop.global.api.ApiResponse;
 import likelion13th.shop.global.api.SuccessCode;
+import likelion13th.shop.search.ItemFacetService;
+import likelion13th.shop.search.PriceBand;
 import likelion13th.shop.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.Set;
 
 @Tag(name = "카테고리", description = "카테고리 관련 API 입니다.")
 @RestController
@@ -21,22 +24,48 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryController {
     private final CategoryService categoryService;
+    private final ItemFacetService itemFacetService;
 
     // 상품 조회(카테고리별)
     // 컨트롤러에서 Optional 처리하고 있음
     // 컨트롤러에서는 예외처리만 하고자 함!
     /** 카테고리 별 상품 조회**/
     @GetMapping("/{categoryId}/items")
-    @Operation(summary = "카테고리별 상품 조회", description = "상품을 카테고리 별로 조회합니다.")
-    public ApiResponse<?> getItemsByCategory(@PathVariable Long categoryId) {
-        List<ItemResponse> items = categoryService.getItemsByCategory(categoryId);
+    @Operation(summary = "카테고리별 상품 조회",
+            description = "상품을 카테고리 별로 조회합니다. cursor(이전 응답의 nextCursor)와 size(최대 50)로 페이지를 나눕니다.")
+    public ApiResponse<?> getItemsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ItemPageResponse page = categoryService.getItemPageByCategory(categoryId, cursor, size);
 
         //상품 없을 시 : 성공 응답 + 빈 리스트 반환
-        if (items.isEmpty()) {
-            return ApiResponse.onSuccess(SuccessCode.CATEGORY_ITEMS_EMPTY, Collections.emptyList());
+        if (page.getItems().isEmpty()) {
+            return ApiResponse.onSuccess(SuccessCode.CATEGORY_ITEMS_EMPTY, page);
         }
 
-        return ApiResponse.onSuccess(SuccessCode.CATEGORY_ITEMS_GET_SUCCESS, items);
+        return ApiResponse.onSuccess(SuccessCode.CATEGORY_ITEMS_GET_SUCCESS, page);
 
     }
+
+    /** 카테고리 상품 필터 조회 (브랜드 / 가격대 / 신상품) **/
+    @GetMapping("/{categoryId}/items/filter")
+    @Operation(summary = "카테고리 상품 필터 조회",
+            description = "브랜드, 가격대, 신상품 여부로 카테고리 상품을 거르고, 각 필터 값별 상품 수를 함께 반환합니다.")
+    public ApiResponse<?> filterItemsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Set<String> brand,
+            @RequestParam(required = false) Set<PriceBand> priceBand,
+            @RequestParam(required = false) Boolean isNew,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ItemFacetResponse response = itemFacetService.filter(categoryId, brand, priceBand, isNew, cursor, size);
+
+        if (response.getPage().getItems().isEmpty()) {
+            return ApiResponse.onSuccess(SuccessCode.CATEGORY_ITEMS_EMPTY, response);
+        }
+        return ApiResponse.onSuccess(SuccessCode.CATEGORY_ITEMS_GET_SUCCESS, response);
+    }
 }
@@ -0,0 +1,67 @@
+package likelion13th.shop.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.global.api.ApiResponse;
+import likelion13th.shop.global.api.SuccessCode;
+import likelion13th.shop.search.ItemSearchService;
+import likelion13th.shop.service.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "상품", description = "상품 관련 API 입니다.")
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+public class ItemController {
+    private final ItemService itemService;
+    private final ItemSearchService itemSearchService;
+
+    /** 상품 단건 조회 **/
+    @GetMapping("/{itemId}")
+    @Operation(summary = "상품 조회", description = "상품 하나의 정보를 조회합니다.")
+    public ApiResponse<?> getItem(@PathVariable Long itemId) {
+        ItemResponse item = itemService.getItem(itemId);
+        return ApiResponse.onSuccess(SuccessCode.ITEM_GET_SUCCESS, item);
+    }
+
+    /** 상품 다건 조회 **/
+    @GetMapping
+    @Operation(summary = "상품 다건 조회", description = "여러 상품을 id로 한 번에 조회합니다. (최대 100개, 없는 상품은 제외)")
+    public ApiResponse<?> getItems(@RequestParam List<Long> ids) {
+        List<ItemResponse> items = itemService.getItems(ids);
+        return ApiResponse.onSuccess(SuccessCode.ITEM_GET_SUCCESS, items);
+    }
+
+    /** 상품 검색 **/
+    @GetMapping("/search")
+    @Operation(summary = "상품 검색", description = "상품명/브랜드로 상품을 검색합니다. 브랜드, 가격 범위로 결과를 좁힐 수 있습니다.")
+    public ApiResponse<?> searchItems(
+            @RequestParam String q,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<ItemResponse> items = itemSearchService.search(q, brand, minPrice, maxPrice, size);
+        return ApiResponse.onSuccess(SuccessCode.ITEM_SEARCH_SUCCESS, items);
+    }
+
+    /** 검색어 자동완성 **/
+    @GetMapping("/autocomplete")
+    @Operation(summary = "검색어 자동완성", description = "입력한 접두어로 시작하는 상품명을 반환합니다.")
+    public ApiResponse<?> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<String> suggestions = itemSearchService.autocomplete(prefix, size);
+        return ApiResponse.onSuccess(SuccessCode.ITEM_AUTOCOMPLETE_SUCCESS, suggestions);
+    }
+}
@@ -3,6 +3,7 @@ package likelion13th.shop.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import likelion13th.shop.DTO.request.OrderCreateRequest;
+import likelion13th.shop.DTO.response.OrderPageResponse;
 import likelion13th.shop.DTO.response.OrderResponse;
 import likelion13th.shop.global.api.ApiResponse;
 import likelion13th.shop.global.api.SuccessCode;
@@ -13,9 +14,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Collections;
-import java.util.List;
-
 
 @Tag(name = "주문", description = "주문 관련 API 입니다.")
 @RestController
@@ -35,18 +33,21 @@ public class OrderController {
         return ApiResponse.onSuccess(SuccessCode.ORDER_CREATE_SUCCESS, newOrder);
     }
 
-    /** 모든 주문 목록 조회 **/
+    /** 주문 목록 조회 **/
     @GetMapping
-    @Operation(summary = "모든 주문 조회", description = "로그인한 사용자의 모든 주문을 목록으로 조회합니다.")
+    @Operation(summary = "주문 목록 조회",
+            description = "로그인한 사용자의 주문을 최신순으로 조회합니다. cursor(이전 응답의 nextCursor)와 size(최대 50)로 페이지를 나눕니다.")
     public ApiResponse<?> getAllOrders(
-            @AuthenticationPrincipal CustomUserDetails customUserDetails
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<OrderResponse> orders = orderService.getAllOrders(customUserDetails);
+        OrderPageResponse page = orderService.getOrderPage(customUserDetails, cursor, size);
         // 주문이 없더라도 성공 응답 + 빈 리스트 반환
-        if (orders.isEmpty()) {
-            return ApiResponse.onSuccess(SuccessCode.ORDER_LIST_EMPTY, Collections.emptyList());
+        if (page.getOrders().isEmpty()) {
+            return ApiResponse.onSuccess(SuccessCode.ORDER_LIST_EMPTY, page);
         }
-        return ApiResponse.onSuccess(SuccessCode.ORDER_LIST_SUCCESS, orders);
+        return ApiResponse.onSuccess(SuccessCode.ORDER_LIST_SUCCESS, page);
     }
 
     /** 주문 취소 **/
@@ -13,6 +13,7 @@ import likelion13th.shop.global.api.SuccessCode;
 import likelion13th.shop.global.exception.GeneralException;
 import likelion13th.shop.login.auth.jwt.CustomUserDetails;
 import likelion13th.shop.login.service.UserService;
+import likelion13th.shop.service.MileageService;
 import likelion13th.shop.service.UserAddressService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,6 +28,7 @@ public class UserInfoController {
 
     private final UserService userService;
     private final UserAddressService userAddressService;
+    private final MileageService mileageService;
 
     /** 사용자 정보 조회 **/
     @GetMapping("/profile")
@@ -34,9 +36,9 @@ public class UserInfoController {
     public ApiResponse<?> getUserInfo(
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
-        User user = userService.getAuthenticatedUser(customUserDetails.getProviderId());
+        User user = userService.getAuthenticatedUser(customUserDetails);
 
-        UserInfoResponse userInfo = UserInfoResponse.from(user);
+        UserInfoResponse userInfo = UserInfoResponse.from(user, mileageService.getBalance(user.getId()));
 
         return ApiResponse.onSuccess(SuccessCode.USER_INFO_GET_SUCCESS, userInfo);
     }
@@ -48,7 +50,7 @@ public class UserInfoController {
             @RequestBody AddressRequest request,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
-        AddressResponse addressResponse = userAddressService.saveAddress(customUserDetails.getProviderId(), request);
+        AddressResponse addressResponse = userAddressService.saveAddress(customUserDetails, request);
         return ApiResponse.onSuccess(SuccessCode.ADDRESS_SAVE_SUCCESS, addressResponse);
     }
 
@@ -59,9 +61,11 @@ public class UserInfoController {
     public ApiResponse<UserMileageResponse> getAvailableMileage(
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
-        // 로그인한 사용자 정보 조회
-        User user = userService.getAuthenticatedUser(customUserDetails.getProviderId());
+        // 토큰의 user_id 사용 (없는 이전 토큰이면 읽기 전용 스냅샷 캐시에서)
+        Long userId = userService.getAuthenticatedUserId(customUserDetails);
+        // 원장 기준 잔액 조회 (캐시 hit면 DB 조회 없음, miss면 압축 스냅샷 + 원장 꼬리 합계 쿼리 한 번)
+        int mileage = mileageService.getBalance(userId).getMileage();
         // 사용 가능한 마일리지 반환
-        return ApiResponse.onSuccess(SuccessCode.USER_MILEAGE_SUCCESS, new UserMileageResponse(user.getMaxMileage()));
+        return ApiResponse.onSuccess(SuccessCode.USER_MILEAGE_SUCCESS, new UserMileageResponse(mileage));
     }
 }
\ No newline at end of file
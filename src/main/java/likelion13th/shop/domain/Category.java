@@ -2,6 +2,7 @@ package likelion13th.shop.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import likelion13th.shop.catalog.CatalogChangeListener;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.List;
 @Entity
 @Getter
 @Table(name = "category")
+@EntityListeners(CatalogChangeListener.class)
 @NoArgsConstructor
 public class Category {
     @Id
@@ -2,6 +2,7 @@ package likelion13th.shop.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import likelion13th.shop.catalog.CatalogChangeListener;
 import likelion13th.shop.domain.entity.BaseEntity;
 import lombok.*;
 
@@ -11,6 +12,7 @@ import java.util.List;
 @Entity
 @Getter
 @Table(name = "item")
+@EntityListeners(CatalogChangeListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Item extends BaseEntity {
@@ -35,11 +37,21 @@ public class Item extends BaseEntity {
     @Column(nullable = false)
     private boolean isNew= false;
 
+    // 리사이즈 변형(ImageVariant) 이미지가 모두 만들어진 경우에만 true
+    // - false면 목록/상세에서도 원본 imagePath를 사용한다. (기존 데이터, 스트리밍/presigned 업로드, 디코딩 불가 형식, 변형 생성 실패)
+    @Column(nullable = false)
+    private boolean imageVariants = false;
+
     //Category와 다대다 연관관계 설정
     @ManyToMany(mappedBy = "items")
     private List<Category> categories = new ArrayList<>();
 
 
+    // 변형 이미지가 모두 확인된 경우 변형 URL 사용으로 전환 (CatalogChangeListener가 스냅샷에 반영)
+    public void markImageVariants() {
+        this.imageVariants = true;
+    }
+
     /** Order과 일대다 연관관계 설정
      * -> Item에서 Order의 목록을 볼 일이 없으므로 단방향 처리 **/
 }
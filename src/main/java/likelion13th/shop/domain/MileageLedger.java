@@ -0,0 +1,76 @@
+package likelion13th.shop.domain;
+
+import jakarta.persistence.*;
+import likelion13th.shop.global.constant.MileageEntryType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 원장 (append-only)
+ * - 주문 한 건의 마일리지/구매액 변동을 한 행으로 기록하고, 기록된 행은 수정/삭제하지 않는다.
+ * - mileage_delta, purchase_delta는 부호가 있는 변동량 (사용/회수는 음수)
+ * - 잔액 = users의 압축 스냅샷(max_mileage, recent_total) + mileage_watermark 이후 원장 합계
+ * - (order_id, type) 유니크 → 같은 주문에 같은 종류의 항목이 두 번 들어가지 않음 (중복 적립/환불 방지)
+ * - debit_seq: 잔액을 줄이는 항목(사용/회수)의 사용자별 순번 (적립/환불은 null)
+ *   (user_id, debit_seq) 유니크 → 같은 잔액을 보고 동시에 차감하면 하나만 들어감 (음수 잔액 방지)
+ */
+@Entity
+@Getter
+@Table(name = "mileage_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_mileage_ledger_order_type", columnNames = {"order_id", "type"}),
+                // 사용자별 차감 순번 (차감 항목에만 값이 있고, 마지막 순번 조회에도 쓰인다)
+                @UniqueConstraint(name = MileageLedger.UK_USER_DEBIT_SEQ, columnNames = {"user_id", "debit_seq"})
+        },
+        indexes = {
+                @Index(name = "idx_mileage_ledger_user_entry", columnList = "user_id, entry_id"), // 잔액 계산(원장 꼬리 합계)용
+                @Index(name = "idx_mileage_ledger_created", columnList = "created_at") // 압축 범위 계산용
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MileageLedger {
+
+    public static final String UK_USER_DEBIT_SEQ = "uk_mileage_ledger_user_debit";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MileageEntryType type;
+
+    @Column(name = "mileage_delta", nullable = false)
+    private int mileageDelta;
+
+    @Column(name = "purchase_delta", nullable = false)
+    private int purchaseDelta;
+
+    @Column(name = "debit_seq")
+    private Integer debitSeq;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 정적 팩토리 메서드
+    public static MileageLedger create(Long userId, Long orderId, MileageEntryType type, int mileageDelta, int purchaseDelta) {
+        MileageLedger entry = new MileageLedger();
+        entry.userId = userId;
+        entry.orderId = orderId;
+        entry.type = type;
+        entry.mileageDelta = mileageDelta;
+        entry.purchaseDelta = purchaseDelta;
+        return entry;
+    }
+}
@@ -10,7 +10,11 @@ import lombok.Setter;
 
 @Entity
 @Getter
-@Table(name = "orders") //예약어 회피
+@Table(name = "orders", //예약어 회피
+        indexes = {
+                @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, order_id"), // 사용자별 주문 목록 keyset 조회용
+                @Index(name = "idx_orders_status_created", columnList = "status, created_at") // 주문 완료 스케줄러용
+        })
 @NoArgsConstructor
 public class Order extends BaseEntity {
 
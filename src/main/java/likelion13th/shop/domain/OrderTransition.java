@@ -0,0 +1,55 @@
+package likelion13th.shop.domain;
+
+import jakarta.persistence.*;
+import likelion13th.shop.global.constant.OrderStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약된 주문 상태 전이 (영속 due-time 큐)
+ * - "order_id 주문을 due_at(epoch millis) 시각에 fromStatus → toStatus 로 바꾼다"는 한 건의 예약
+ * - 주문 생성 시 같은 트랜잭션에서 저장되고, 전이가 실행되면 삭제된다.
+ * - 서버가 재시작되면 OrderLifecycleEngine(복구 임대를 가진 노드)이 남아 있는 행을 다시 읽어 메모리 타이밍 휠에 올린다.
+ * - 주문당 같은 전이는 하나만 예약된다. (order_id, from_status, to_status 유니크 → 복구가 겹쳐도 중복 생성 불가)
+ */
+@Entity
+@Getter
+@Table(name = "order_transition", indexes = {
+        @Index(name = "idx_order_transition_due", columnList = "due_at")
+}, uniqueConstraints = {
+        // order_id로 시작하므로 주문별 예약 삭제(deleteByOrderId)도 이 인덱스를 쓴다.
+        @UniqueConstraint(name = "uk_order_transition_order_step", columnNames = {"order_id", "from_status", "to_status"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "transition_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = false)
+    private OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private OrderStatus toStatus;
+
+    @Column(name = "due_at", nullable = false)
+    private long dueAt;
+
+    // 정적 팩토리 메서드
+    public static OrderTransition create(Long orderId, OrderStatus fromStatus, OrderStatus toStatus, long dueAt) {
+        OrderTransition transition = new OrderTransition();
+        transition.orderId = orderId;
+        transition.fromStatus = fromStatus;
+        transition.toStatus = toStatus;
+        transition.dueAt = dueAt;
+        return transition;
+    }
+}
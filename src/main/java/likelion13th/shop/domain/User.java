@@ -2,6 +2,7 @@ package likelion13th.shop.domain;
 
 import jakarta.persistence.*;
 import likelion13th.shop.domain.entity.BaseEntity;
+import likelion13th.shop.login.cache.UserCacheInvalidationListener;
 import likelion13th.shop.login.auth.jwt.RefreshToken;
 import lombok.*;
 
@@ -14,6 +15,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class) // 변경 시 사용자 스냅샷 캐시 무효화
 public class User extends BaseEntity {
 
     @Id
@@ -37,20 +39,31 @@ public class User extends BaseEntity {
     // 계정 삭제 가능 여부 (기본값 true)
     @Column(nullable = false)
     // @Setter
+    @Builder.Default
     private boolean deletable = true;
 
-    // 마일리지 (기본값 0, 비즈니스 메서드로만 관리)
+    // 마일리지 압축 스냅샷 (기본값 0)
+    // - 실제 잔액은 MileageService.getBalance (스냅샷 + mileage_watermark 이후 mileage_ledger 합계)
+    // - MileageCompactor만 변경한다. (주문/취소는 원장에 INSERT만 함)
     @Column(nullable = false)
     @Setter(AccessLevel.NONE)
     /*테이블 단위로 세터가 적용되어있을 경우 얘만 제외시키거나
     의도적으로 세터 안넣은거라고 명시적이게 표기 */
+    @Builder.Default
     private int maxMileage = 0;
 
-    // 최근 총 구매액 (기본값 0, 비즈니스 메서드로만 관리)
+    // 최근 총 구매액 압축 스냅샷 (기본값 0, 위와 동일)
     @Column(nullable = false)
     @Setter(AccessLevel.NONE)
+    @Builder.Default
     private int recentTotal = 0;
 
+    // 스냅샷에 합쳐진 마지막 원장 항목 id (mileage_ledger.entry_id)
+    @Column(name = "mileage_watermark", nullable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private long mileageWatermark = 0;
+
     // Refresh Token 관계 설정 (1:1)
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private RefreshToken auth;
@@ -62,6 +75,7 @@ public class User extends BaseEntity {
 
     // 주문 정보 (1:N 관계)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
     private List<Order> orders = new ArrayList<>();
 
     // 주문 추가 메서드
@@ -75,35 +89,6 @@ public class User extends BaseEntity {
      * 도메인 보호를 위해 유효성 검사도 해줍니당.
      **/
 
-    // 마일리지 사용
-    public void useMileage(int mileage) {
-        if (mileage < 0) {
-            throw new IllegalArgumentException("사용할 마일리지는 0보다 커야 합니다.");
-        }
-        if (this.maxMileage < mileage) {
-            throw new IllegalArgumentException("마일리지가 부족합니다.");
-        }
-        this.maxMileage -= mileage;
-    }
-
-    // 마일리지 적립
-    public void addMileage(int mileage) {
-        if (mileage < 0) {
-            throw new IllegalArgumentException("적립할 마일리지는 0보다 커야 합니다.");
-        }
-        this.maxMileage += mileage;
-    }
-
-    // 총 결제 금액 업데이트
-    public void updateRecentTotal(int amount) {
-        // 취소의 경우도 있어서 amount에 대한 유효성 검사는 따로 x
-        int newTotal = this.recentTotal + amount;
-        if (newTotal < 0) {
-            throw new IllegalArgumentException("총 결제 금액은 음수가 될 수 없습니다.");
-        }
-        this.recentTotal = newTotal;
-    }
-
     // 주소 저장/수정 메서드 추가
     public void updateAddress(Address address) {
         this.address = address;
@@ -24,6 +24,7 @@ public enum ErrorCode implements BaseCode { // 실패
     USER_ORDER_STATUS_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_4044", "해당 주문이 없습니다."),
 
     INVALID_MILEAGE(HttpStatus.BAD_REQUEST, "USER_4045", "보유한 마일리지를 초과하여 사용 및 회수 할 수 없습니다."),
+    MILEAGE_CONFLICT(HttpStatus.CONFLICT, "USER_4091", "마일리지 사용이 동시에 요청되었습니다. 다시 시도해 주세요."),
 
     // Jwt
     WRONG_REFRESH_TOKEN(HttpStatus.NOT_FOUND, "JWT_4041", "일치하는 리프레시 토큰이 없습니다."),
@@ -47,6 +48,8 @@ public enum ErrorCode implements BaseCode { // 실패
     S3_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3_500", "S3 업로드에 실패하였습니다."),
     S3_FILE_EMPTY(HttpStatus.BAD_REQUEST, "S3_400", "업로드할 파일이 비어 있습니다."),
     S3_INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "S3_401", "유효하지 않은 파일 형식입니다."),
+    S3_OBJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "S3_404", "업로드된 파일을 찾을 수 없습니다."),
+    S3_FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "S3_413", "업로드 가능한 최대 파일 크기를 초과했습니다."),
 
 
     // User Address 관련 에러 코드 추가
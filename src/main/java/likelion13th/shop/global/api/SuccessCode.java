@@ -30,6 +30,8 @@ public enum SuccessCode implements BaseCode { // 성공
 
     // Item
     ITEM_GET_SUCCESS(HttpStatus.OK, "ITEM_2003", "상품 조회에 성공했습니다."),
+    ITEM_SEARCH_SUCCESS(HttpStatus.OK, "ITEM_2004", "상품 검색에 성공했습니다."),
+    ITEM_AUTOCOMPLETE_SUCCESS(HttpStatus.OK, "ITEM_2005", "검색어 자동완성 조회에 성공했습니다."),
 
     // Order
     ORDER_CREATE_SUCCESS(HttpStatus.CREATED, "ORDER_201", "주문이 성공적으로 생성되었습니다."),
@@ -40,6 +42,7 @@ public enum SuccessCode implements BaseCode { // 성공
 
     // S3
     S3_UPLOAD_SUCCESS(HttpStatus.OK, "S3_200", "S3 업로드가 성공적으로 완료되었습니다."),
+    S3_PRESIGNED_URL_SUCCESS(HttpStatus.OK, "S3_201", "S3 업로드 URL이 발급되었습니다."),
 
 
     // User Address 관련 응답 코드 추가
@@ -0,0 +1,6 @@
+package likelion13th.shop.global.constant;
+
+// 마일리지 원장 항목 종류: 결제 적립, 결제 사용, 취소 시 사용분 환불, 취소 시 적립분 회수
+public enum MileageEntryType {
+    EARN, SPEND, REFUND, REVOKE
+}
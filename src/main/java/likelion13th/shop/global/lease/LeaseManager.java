@@ -0,0 +1,189 @@
+package likelion13th.shop.global.lease;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * MySQL 임대(lease) 기반 스케줄 작업 리더 선출
+ * - 여러 인스턴스가 같은 @Scheduled 작업을 동시에 돌리지 않도록, 작업 이름별 임대를 가진 노드 하나만 실행한다.
+ * - 임대는 ttlMillis 동안 유효하고, 보유 노드는 heartbeat마다 연장한다. 연장이 끊기면(장애/GC 등) 만료 후 다른 노드가 가져간다.
+ * - heartbeat는 전용 스레드에서 돈다. (@Scheduled 공용 스레드에 두면 긴 작업이 연장을 막아 실행 중에 임대를 잃는다)
+ * - 가져갈 때마다 fencing token이 증가하므로, DB 쓰기 조건에 token을 넣으면 임대를 잃은 이전 리더의 쓰기가 무시된다.
+ * - 공유 DB 상태를 바꾸는 작업만 참여시킨다. (노드 로컬 캐시 정리/재구성 작업은 모든 노드에서 실행되어야 함)
+ * - 노드 간 시계 차이가 ttl보다 충분히 작다는 가정 (EB 인스턴스는 NTP 동기화)
+ *
+ * 사용:
+ *   leaseManager.runIfLeader("order-complete", token -> ...);
+ */
+@Slf4j
+@Component
+public class LeaseManager {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMillis;
+    private final long heartbeatMillis;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeater = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 노드가 보유 중인 임대 (작업 이름 → 토큰/만료 시각)
+    private final Map<String, HeldLease> held = new ConcurrentHashMap<>();
+
+    public LeaseManager(SchedulerLeaseRepository schedulerLeaseRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${LEASE_TTL_MILLIS:30000}") long ttlMillis,
+                        @Value("${LEASE_HEARTBEAT_MILLIS:10000}") long heartbeatMillis) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlMillis = ttlMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.nodeId = resolveHostName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 리더일 때만 작업 실행
+     * - 임대를 보유(또는 새로 획득)하면 fencing token을 넘겨 job을 실행하고 true
+     * - 다른 노드가 보유 중이면 아무것도 하지 않고 false
+     */
+    public boolean runIfLeader(String leaseName, LongConsumer job) {
+        OptionalLong token = acquire(leaseName);
+        if (token.isEmpty()) {
+            return false;
+        }
+        job.accept(token.getAsLong());
+        return true;
+    }
+
+    /**
+     * 임대 획득 또는 연장
+     * - 이미 보유 중이면 연장, 아니면 만료된 임대를 가져온다.
+     */
+    public OptionalLong acquire(String leaseName) {
+        HeldLease current = held.get(leaseName);
+        if (current != null && renew(current)) {
+            return OptionalLong.of(current.fencingToken());
+        }
+
+        ensureRow(leaseName);
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        Long token = transactionTemplate.execute(status -> {
+            if (schedulerLeaseRepository.takeOver(leaseName, nodeId, now, expiresAt) == 0) {
+                return null;
+            }
+            return schedulerLeaseRepository.findFencingToken(leaseName).orElse(null);
+        });
+        if (token == null) {
+            return OptionalLong.empty();
+        }
+        held.put(leaseName, new HeldLease(leaseName, token, expiresAt));
+        log.info("스케줄 작업 리더 획득 - lease={}, node={}, token={}", leaseName, nodeId, token);
+        return OptionalLong.of(token);
+    }
+
+    /**
+     * 작업 도중 리더 유지 여부 확인 (긴 작업에서 묶음 사이에 호출)
+     * - 로컬 기준으로 token이 같고 만료까지 여유가 있으면 true
+     */
+    public boolean isCurrent(String leaseName, long fencingToken) {
+        HeldLease lease = held.get(leaseName);
+        return lease != null
+                && lease.fencingToken() == fencingToken
+                && lease.expiresAt() - ttlMillis / 3 > System.currentTimeMillis();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeater.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (Exception e) {
+                log.warn("임대 연장 실패 - node={}", nodeId, e);
+            }
+        }, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 보유 중인 임대 주기적 연장 (작업 실행 간격이 ttl보다 길어도 리더가 바뀌지 않도록) */
+    public void heartbeat() {
+        held.values().forEach(this::renew);
+    }
+
+    /** 종료 시 heartbeat 중지 후 보유 임대 반납 → 다른 노드가 ttl을 기다리지 않고 바로 이어받음 */
+    @PreDestroy
+    public void releaseAll() throws InterruptedException {
+        heartbeater.shutdown();
+        heartbeater.awaitTermination(5, TimeUnit.SECONDS);
+        held.values().forEach(lease -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        schedulerLeaseRepository.release(lease.name(), nodeId, lease.fencingToken()));
+            } catch (Exception e) {
+                log.warn("임대 반납 실패 - lease={}", lease.name(), e);
+            }
+        });
+        held.clear();
+    }
+
+    private boolean renew(HeldLease lease) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        Integer renewed = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.renew(lease.name(), nodeId, lease.fencingToken(), now, expiresAt));
+        if (renewed != null && renewed == 1) {
+            held.put(lease.name(), new HeldLease(lease.name(), lease.fencingToken(), expiresAt));
+            return true;
+        }
+        held.remove(lease.name(), lease);
+        log.warn("스케줄 작업 리더 상실 - lease={}, node={}, token={}", lease.name(), nodeId, lease.fencingToken());
+        return false;
+    }
+
+    // 임대 행이 없으면 생성 (동시에 다른 노드가 만들면 키 중복 → 무시)
+    private void ensureRow(String leaseName) {
+        if (schedulerLeaseRepository.existsById(leaseName)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.save(SchedulerLease.create(leaseName)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("임대 행이 이미 생성됨 - lease={}", leaseName);
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+
+    private record HeldLease(String name, long fencingToken, long expiresAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package likelion13th.shop.global.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 리더 임대(lease) 행
+ * - 작업 이름(lease_name)당 한 행, 현재 보유 노드(owner_id)와 만료 시각(expires_at, epoch millis)을 기록한다.
+ * - fencing_token: 다른 노드가 임대를 새로 가져갈 때마다 1씩 증가
+ *   → 임대를 잃은 줄 모르는 이전 리더의 쓰기를 DB 쪽에서 걸러낼 때 사용
+ * - heartbeat_at: 마지막 획득/갱신 시각 (모니터링용)
+ */
+@Entity
+@Getter
+@Table(name = "scheduler_lease")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String name;
+
+    @Column(name = "owner_id", length = 200)
+    private String ownerId;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private long heartbeatAt;
+
+    // 아무도 보유하지 않은(이미 만료된) 임대 행 생성
+    public static SchedulerLease create(String name) {
+        SchedulerLease lease = new SchedulerLease();
+        lease.name = name;
+        return lease;
+    }
+}
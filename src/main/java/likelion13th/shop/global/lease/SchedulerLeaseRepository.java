@@ -0,0 +1,40 @@
+package likelion13th.shop.global.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 임대 행 조건부 갱신 쿼리
+ * - 모두 단일 행 조건부 UPDATE라 DB 행 잠금만으로 원자성이 보장된다.
+ * - 표준 JPQL만 사용하므로 MySQL 외 내장 DB(H2 등)에서도 동일하게 동작한다.
+ */
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료된 임대 가져오기 (fencing token 증가)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.ownerId = :owner, l.fencingToken = l.fencingToken + 1, " +
+            "l.expiresAt = :expiresAt, l.heartbeatAt = :now " +
+            "WHERE l.name = :name AND l.expiresAt < :now")
+    int takeOver(@Param("name") String name, @Param("owner") String owner,
+                 @Param("now") long now, @Param("expiresAt") long expiresAt);
+
+    // 보유 중인 임대 연장 (토큰이 그대로이고 아직 만료 전일 때만)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :expiresAt, l.heartbeatAt = :now " +
+            "WHERE l.name = :name AND l.ownerId = :owner AND l.fencingToken = :token AND l.expiresAt >= :now")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("token") long token,
+              @Param("now") long now, @Param("expiresAt") long expiresAt);
+
+    // 임대 반납 (즉시 만료 처리 → 다른 노드가 바로 가져갈 수 있음)
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = 0 " +
+            "WHERE l.name = :name AND l.ownerId = :owner AND l.fencingToken = :token")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("token") long token);
+
+    @Query("SELECT l.fencingToken FROM SchedulerLease l WHERE l.name = :name")
+    Optional<Long> findFencingToken(@Param("name") String name);
+}
@@ -0,0 +1,58 @@
+package likelion13th.shop.login.auth.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한 문자열 → 공유 권한 목록 레지스트리
+ * - 토큰의 authorities claim("ROLE_USER", "ROLE_USER,ROLE_ADMIN" 등)은 종류가 몇 개 되지 않으므로
+ *   문자열마다 불변 List 하나만 만들어 두고 모든 요청이 같은 인스턴스를 공유한다.
+ * - 요청마다 split + SimpleGrantedAuthority 생성 + List 생성을 하지 않기 위함
+ */
+public final class AuthorityRegistry {
+
+    /** 권한 정보가 없을 때 부여하는 기본 권한 (ROLE_USER) */
+    public static final List<GrantedAuthority> ROLE_USER = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    // 서버가 서명한 토큰의 값만 들어오지만, 혹시 모를 폭증을 막기 위해 상한을 둔다.
+    private static final int MAX_ENTRIES = 64;
+
+    private static final Map<String, List<GrantedAuthority>> REGISTRY = new ConcurrentHashMap<>();
+
+    static {
+        REGISTRY.put("ROLE_USER", ROLE_USER);
+    }
+
+    private AuthorityRegistry() {
+    }
+
+    /**
+     * 권한 문자열에 해당하는 공유 권한 목록 반환
+     * - null/빈 문자열이면 기본 ROLE_USER
+     */
+    public static List<GrantedAuthority> of(String authorities) {
+        if (authorities == null || authorities.isEmpty()) {
+            return ROLE_USER;
+        }
+        List<GrantedAuthority> cached = REGISTRY.get(authorities);
+        if (cached != null) {
+            return cached;
+        }
+        if (REGISTRY.size() >= MAX_ENTRIES) {
+            return parse(authorities);
+        }
+        return REGISTRY.computeIfAbsent(authorities, AuthorityRegistry::parse);
+    }
+
+    private static List<GrantedAuthority> parse(String authorities) {
+        return Arrays.stream(authorities.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .map(GrantedAuthority.class::cast)
+                .toList();
+    }
+}
@@ -2,16 +2,15 @@ package likelion13th.shop.login.auth.jwt;
 
 import likelion13th.shop.domain.Address;
 import likelion13th.shop.domain.User;
+import likelion13th.shop.login.cache.UserSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
 
 /**
  * Spring Security에서 인증 주체(principal)로 사용하는 사용자 정보 객체
@@ -42,7 +41,7 @@ public class CustomUserDetails implements UserDetails {
         this.providerId   = user.getProviderId();
         this.usernickname = user.getUsernickname();
         this.address      = user.getAddress();
-        this.authorities  = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        this.authorities  = AuthorityRegistry.ROLE_USER;
     }
 
     // (선택) username, password, 권한을 직접 받는 생성자
@@ -56,6 +55,20 @@ public class CustomUserDetails implements UserDetails {
         // password는 무시됨 (소셜 로그인 시 사용하지 않음)
     }
 
+    /**
+     * JWT 인증 필터용 경량 생성
+     * - 토큰에는 providerId, user_id, 권한만 있으므로 나머지 필드는 채우지 않는다.
+     * - user_id는 이전에 발급된 토큰이면 null일 수 있다.
+     * - authorities는 AuthorityRegistry의 공유 목록을 그대로 사용 (복사하지 않음)
+     */
+    public static CustomUserDetails fromToken(String providerId, Long userId, Collection<? extends GrantedAuthority> authorities) {
+        CustomUserDetails details = new CustomUserDetails();
+        details.providerId  = providerId;
+        details.userId      = userId;
+        details.authorities = authorities;
+        return details;
+    }
+
     /**
      * User 엔티티 → CustomUserDetails 변환
      * - 권한(authorities)은 지정하지 않음 → getAuthorities()에서 ROLE_USER로 보완
@@ -69,6 +82,19 @@ public class CustomUserDetails implements UserDetails {
                 .build();
     }
 
+    /**
+     * 캐시된 UserSnapshot → CustomUserDetails 변환
+     * - fromEntity와 같은 필드를 채우며, DB 조회 없이 만들 수 있다.
+     */
+    public static CustomUserDetails fromSnapshot(UserSnapshot snapshot) {
+        return CustomUserDetails.builder()
+                .userId(snapshot.id())
+                .providerId(snapshot.providerId())
+                .usernickname(snapshot.usernickname())
+                .address(snapshot.address())
+                .build();
+    }
+
     /**
      * CustomUserDetails → User 엔티티 변환
      * - 신규 저장 시 최소 필드만 세팅 (비밀번호 없음)
@@ -101,7 +127,7 @@ public class CustomUserDetails implements UserDetails {
         if (this.authorities != null && !this.authorities.isEmpty()) {
             return this.authorities;
         }
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        return AuthorityRegistry.ROLE_USER;
     }
 
     @Override
@@ -0,0 +1,60 @@
+package likelion13th.shop.login.auth.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * JWT 검증 후 SecurityContext에 넣는 경량 인증 객체
+ * - UsernamePasswordAuthenticationToken은 생성 시 권한 목록을 새 리스트로 복사하므로,
+ *   AuthorityRegistry의 공유 권한 목록을 그대로 들고 있는 전용 구현을 사용한다.
+ * - 토큰 서명 검증을 통과한 경우에만 생성되므로 항상 인증된 상태
+ */
+public final class JwtAuthentication implements Authentication {
+
+    private final CustomUserDetails principal;
+
+    public JwtAuthentication(CustomUserDetails principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        // 토큰 기반 인증이므로 자격 증명은 보관하지 않음
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public CustomUserDetails getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            return;
+        }
+        throw new IllegalArgumentException("JWT 인증 객체는 인증 해제 상태로 변경할 수 없습니다.");
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+}
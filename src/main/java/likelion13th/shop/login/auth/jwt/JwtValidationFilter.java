@@ -1,10 +1,12 @@
 package likelion13th.shop.login.auth.jwt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,13 +17,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * JWT 유효성 검사 필터 (provider_id 기반)
@@ -37,6 +40,18 @@ import java.io.IOException;
 public class JwtValidationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final ObjectMapper objectMapper; // 스프링이 관리하는 공용 ObjectMapper
+
+    // ErrorCode별 에러 응답 본문(JSON)을 시작 시점에 한 번만 직렬화해 둔다.
+    // - 토큰 만료가 한꺼번에 몰릴 때도 요청마다 직렬화하지 않도록
+    private final Map<ErrorCode, byte[]> errorBodies = new EnumMap<>(ErrorCode.class);
+
+    @PostConstruct
+    void initErrorBodies() throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorBodies.put(errorCode, objectMapper.writeValueAsBytes(ApiResponse.onFailure(errorCode, null)));
+        }
+    }
 
     /**
      * 특정 URL은 본 필터를 건너뛴다.
@@ -96,21 +111,20 @@ public class JwtValidationFilter extends OncePerRequestFilter {
             // 권한 복원 (없으면 ROLE_USER 기본 부여)
             var authorities = tokenProvider.getAuthFromClaims(claims);
 
-            // Spring Security 표준 인증 토큰 구성
-            CustomUserDetails userDetails = new CustomUserDetails(
-                    providerId,
-                    "",
-                    authorities
-            );
-            UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+            // 경량 principal + 공유 권한 목록으로 인증 객체 구성 (요청당 할당 최소화)
+            // - userId claim이 있으면 principal에 담아 서비스에서 PK로 바로 조회할 수 있게 한다.
+            CustomUserDetails userDetails = CustomUserDetails.fromToken(
+                    providerId, tokenProvider.getUserIdFromClaims(claims), authorities);
 
             // SecurityContext에 인증 주입 (요청 수명 동안 유효)
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+            SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(userDetails));
 
             // 민감 식별자 마스킹 로그 (운영 로그에 원문 노출 금지)
-            String masked = providerId.length() > 4 ? providerId.substring(0, 4) + "***" : "***";
-            log.debug("JWT 인증 성공 - subject(masked)={}", masked);
+            // - debug 레벨이 꺼져 있으면 마스킹 문자열도 만들지 않는다.
+            if (log.isDebugEnabled()) {
+                String masked = providerId.length() > 4 ? providerId.substring(0, 4) + "***" : "***";
+                log.debug("JWT 인증 성공 - subject(masked)={}", masked);
+            }
 
             // 다음 필터/컨트롤러로 진행
             chain.doFilter(request, response);
@@ -142,20 +156,21 @@ public class JwtValidationFilter extends OncePerRequestFilter {
      * 표준 에러 응답(JSON) 반환 유틸
      * - 상태 코드는 401(UNAUTHORIZED)로 통일
      *   (필요 시 INVALID=401, EXPIRED=401, 기타=500 등으로 세분화 가능)
+     * - 미리 직렬화해 둔 본문을 OutputStream에 그대로 쓴다.
      */
     private void sendErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = errorBodies.get(errorCode);
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.getWriter().write(
-                new ObjectMapper().writeValueAsString(ApiResponse.onFailure(errorCode, null))
-        );
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
 
 /*
  * [리뷰 & 운영 팁]
- * 1) ObjectMapper 매번 생성 대신, 상수/빈으로 재사용하면 GC 부하를 줄일 수 있습니다.
+ * 1) 에러 응답 본문은 시작 시점에 ErrorCode별로 미리 직렬화해 두고 재사용합니다.
  * 2) 필요 시 403(FORBIDDEN)과 401(UNAUTHORIZED)을 구분해 응답하도록 확장 가능합니다.
  * 3) Clock skew가 크다면 TokenProvider 파서에 허용 오차를 설정하세요.
  * 4) 필터 순서: 이 필터가 UsernamePasswordAuthenticationFilter 이전에 오도록 SecurityConfig에서 순서를 확인하세요.
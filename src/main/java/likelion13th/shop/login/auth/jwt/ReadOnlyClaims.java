@@ -0,0 +1,184 @@
+package likelion13th.shop.login.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 읽기 전용 Claims
+ * - VerifiedTokenCache의 Claims는 여러 요청이 동시에 공유하므로, 변경 메서드는 모두 막는다.
+ * - 파서가 만든 Claims를 복사하지 않고 감싸기만 한다. (원본은 이 객체 밖으로 노출되지 않음)
+ * - 날짜 claim(exp/iat/nbf)은 조회할 때마다 새 Date로 변환되어 반환된다.
+ */
+final class ReadOnlyClaims implements Claims {
+
+    private final Claims delegate;
+
+    private ReadOnlyClaims(Claims delegate) {
+        this.delegate = delegate;
+    }
+
+    static Claims of(Claims claims) {
+        return claims instanceof ReadOnlyClaims ? claims : new ReadOnlyClaims(claims);
+    }
+
+    @Override
+    public String getIssuer() {
+        return delegate.getIssuer();
+    }
+
+    @Override
+    public String getSubject() {
+        return delegate.getSubject();
+    }
+
+    @Override
+    public String getAudience() {
+        return delegate.getAudience();
+    }
+
+    @Override
+    public Date getExpiration() {
+        return delegate.getExpiration();
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return delegate.getNotBefore();
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return delegate.getIssuedAt();
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public <T> T get(String claimName, Class<T> requiredType) {
+        return delegate.get(claimName, requiredType);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(delegate.keySet());
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return Collections.unmodifiableCollection(delegate.values());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableMap(delegate).entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return delegate.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    // ───────────────────────────────── 변경 불가 ─────────────────────────────────
+
+    @Override
+    public Claims setIssuer(String iss) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setSubject(String sub) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setAudience(String aud) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setExpiration(Date exp) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setNotBefore(Date nbf) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setIssuedAt(Date iat) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setId(String jti) {
+        throw readOnly();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        throw readOnly();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw readOnly();
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("검증된 토큰의 Claims는 변경할 수 없습니다.");
+    }
+}
@@ -14,6 +14,7 @@ import lombok.NoArgsConstructor;
  *   식별자 null 문제(null identifier) 및 연관관계 초기화 이슈를 피함
  */
 @Entity
+@Table(indexes = @Index(name = "idx_refresh_token_ttl", columnList = "ttl")) // 만료 행 정리(RefreshTokenSweeper)용
 @Builder
 @Getter
 @AllArgsConstructor
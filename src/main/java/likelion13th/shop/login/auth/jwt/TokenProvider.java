@@ -8,14 +8,11 @@ import likelion13th.shop.login.auth.dto.JwtDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
 import java.util.stream.Collectors;
 
@@ -27,6 +24,7 @@ import java.util.stream.Collectors;
  * - subject(sub): providerId(카카오 고유 ID)를 저장
  * - iat(발급시각), exp(만료시각) 기본 포함
  * - authorities(문자열): Access Token에만 포함, Refresh Token에는 포함하지 않음
+ * - userId(숫자): users.user_id, Access Token에만 포함 → 서비스에서 PK 조회에 사용
  *
  * 서명 알고리즘:
  * - HS256 (대칭키) 사용
@@ -37,16 +35,26 @@ import java.util.stream.Collectors;
 @Component
 public class TokenProvider {
 
+    /** Access Token에 담는 내부 사용자 PK(users.user_id) claim 이름 */
+    public static final String USER_ID_CLAIM = "userId";
+
     private final Key secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (JwtParser는 불변·thread-safe)
+    private final JwtParser jwtParser;
+
+    // 이미 검증된 토큰의 Claims 캐시 (반복 요청 시 서명 검증/파싱 생략)
+    private final VerifiedTokenCache verifiedTokenCache;
+
     /**
      * 생성자: 설정(application.yml / 환경변수)에서 키와 만료 시간 주입
      *
      * @param secretKey              HS256 서명용 시크릿 (32바이트 이상 권장)
      * @param accessTokenExpiration  Access Token 만료(ms)
      * @param refreshTokenExpiration Refresh Token 만료(ms)
+     * @param verifiedTokenCache     검증 완료 토큰 캐시
      *
      * 예시(yml):
      *   JWT_SECRET: ${JWT_SECRET}
@@ -56,16 +64,22 @@ public class TokenProvider {
     public TokenProvider(
             @Value("${JWT_SECRET}") String secretKey,
             @Value("${JWT_EXPIRATION}") long accessTokenExpiration,
-            @Value("${JWT_REFRESH_EXPIRATION}") long refreshTokenExpiration) {
+            @Value("${JWT_REFRESH_EXPIRATION}") long refreshTokenExpiration,
+            VerifiedTokenCache verifiedTokenCache) {
         // jjwt가 내부적으로 키 길이를 검사하므로, 충분히 긴 바이트 배열이어야 함
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
      * AccessToken 및 RefreshToken 동시 생성
      * - UserDetails에서 providerId(username)와 권한을 읽어 AccessToken에만 권한을 claim으로 넣는다.
+     * - CustomUserDetails에 user_id가 있으면 AccessToken에 userId claim으로 함께 넣는다.
      */
     public JwtDto generateTokens(UserDetails userDetails) {
         log.info("JWT 생성 시작: 사용자 {}", userDetails.getUsername());
@@ -78,11 +92,14 @@ public class TokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        // Access Token 생성 (권한 포함)
-        String accessToken = createToken(userId, authorities, accessTokenExpiration);
+        // 내부 PK (없으면 claim 생략 → 서비스에서 providerId 조회로 대체)
+        Long internalId = userDetails instanceof CustomUserDetails custom ? custom.getUserId() : null;
+
+        // Access Token 생성 (권한 + user_id 포함)
+        String accessToken = createToken(userId, internalId, authorities, accessTokenExpiration);
 
         // Refresh Token 생성 (권한 불포함: 재발급 용도로만 사용)
-        String refreshToken = createToken(userId, null, refreshTokenExpiration);
+        String refreshToken = createToken(userId, null, null, refreshTokenExpiration);
 
         log.info("Access/Refresh 토큰 생성 완료 (userId: {})", userId);
         return new JwtDto(accessToken, refreshToken);
@@ -92,10 +109,11 @@ public class TokenProvider {
      * 공통 JWT 생성 로직
      *
      * @param providerId     사용자 식별자(= provider_id) → JWT의 subject로 저장
+     * @param userId         내부 PK(= users.user_id) (Access 전용, null이면 생략)
      * @param authorities    권한 문자열 (Access 전용, 예: "ROLE_USER,ROLE_ADMIN")
      * @param expirationTime 만료 시간(ms)
      */
-    private String createToken(String providerId, String authorities, long expirationTime) {
+    private String createToken(String providerId, Long userId, String authorities, long expirationTime) {
         JwtBuilder jwtBuilder = Jwts.builder()
                 .setSubject(providerId)                                   // sub
                 .setIssuedAt(new Date())                                  // iat
@@ -106,6 +124,9 @@ public class TokenProvider {
         if (authorities != null) {
             jwtBuilder.claim("authorities", authorities);
         }
+        if (userId != null) {
+            jwtBuilder.claim(USER_ID_CLAIM, userId);
+        }
 
         return jwtBuilder.compact();
     }
@@ -116,10 +137,7 @@ public class TokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token); // 파싱 성공 == 유효
+            verifyAndCache(token); // 파싱 성공 == 유효
             return true;
         } catch (JwtException e) {
             // SignatureException, MalformedJwtException, ExpiredJwtException 등 모두 포함
@@ -132,14 +150,11 @@ public class TokenProvider {
      * 토큰에서 Claims 추출
      * - 만료(ExpiredJwtException) 시 예외를 상위로 던져 호출부에서 별도 처리
      * - 그 외 파싱 실패는 TOKEN_INVALID로 래핑
+     * - 캐시에 검증된 토큰이 있으면 서명 검증 없이 바로 반환 (반환된 Claims는 읽기 전용, 변경 시 예외)
      */
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return verifyAndCache(token);
         } catch (ExpiredJwtException e) {
             log.warn("토큰 만료: {}", e.getClass().getSimpleName());
             throw e; // 재발급 플로우 등 호출부에서 만료를 구분 처리
@@ -151,18 +166,24 @@ public class TokenProvider {
 
     /**
      * Claims → 권한 정보 복원
-     * - "ROLE_USER,ROLE_ADMIN" 문자열을 SimpleGrantedAuthority 리스트로 변환
+     * - "ROLE_USER,ROLE_ADMIN" 문자열을 AuthorityRegistry의 공유 권한 목록으로 변환 (요청마다 새로 만들지 않음)
      * - 권한이 없으면 기본 ROLE_USER 부여 (게스트 최소 권한)
      */
     public Collection<? extends GrantedAuthority> getAuthFromClaims(Claims claims) {
         String authoritiesString = claims.get("authorities", String.class);
         if (authoritiesString == null || authoritiesString.isEmpty()) {
             log.warn("권한 정보 없음 - 기본 ROLE_USER 부여");
-            return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
         }
-        return Arrays.stream(authoritiesString.split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return AuthorityRegistry.of(authoritiesString);
+    }
+
+    /**
+     * Claims → 내부 사용자 PK(users.user_id) 복원
+     * - userId claim이 없는 이전 토큰이면 null
+     */
+    public Long getUserIdFromClaims(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId == null ? null : userId.longValue();
     }
 
     /**
@@ -171,16 +192,38 @@ public class TokenProvider {
      */
     public Claims parseClaimsAllowExpired(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return verifyAndCache(token);
         } catch (ExpiredJwtException e) {
             // 만료됐지만 payload(Claims)는 안전하게 획득 가능
             return e.getClaims();
         }
     }
+
+    /** 검증 토큰 캐시 hit 수 (부하 테스트 시 효과 확인용) */
+    public long getCacheHitCount() {
+        return verifiedTokenCache.getHitCount();
+    }
+
+    /** 검증 토큰 캐시 miss 수 */
+    public long getCacheMissCount() {
+        return verifiedTokenCache.getMissCount();
+    }
+
+    /**
+     * 캐시 조회 → 없으면 서명 검증 후 캐시에 저장
+     * - 검증 실패(만료/위조 등)는 캐시에 남기지 않고 예외를 그대로 던진다.
+     */
+    private Claims verifyAndCache(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT 문자열이 비어 있습니다.");
+        }
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        // 캐시에 넣은 것과 같은 읽기 전용 Claims를 반환 (첫 요청과 이후 요청이 같은 규칙으로 사용)
+        return verifiedTokenCache.put(token, jwtParser.parseClaimsJws(token).getBody());
+    }
 }
 
 /*
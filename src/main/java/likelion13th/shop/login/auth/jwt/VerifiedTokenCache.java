@@ -0,0 +1,127 @@
+package likelion13th.shop.login.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증 완료 토큰 캐시
+ * - 같은 클라이언트가 같은 Access Token으로 반복 호출할 때 서명 검증/Claims 파싱을 건너뛰기 위함
+ * - key: 토큰 원문의 SHA-256 해시 (원문은 메모리에 보관하지 않음)
+ * - value: 파싱된 Claims (읽기 전용으로 감싼 것 → 여러 요청이 공유해도 변경 불가)
+ * - Caffeine 캐시: 항목마다 토큰의 exp 시각에 만료되고, 최대 크기(maxSize)를 넘으면 자주 쓰이지 않는 항목부터 밀려난다.
+ *   (가득 찬 상태에서도 조회/저장이 전체 순회 없이 O(1))
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<TokenKey, Claims> cache;
+
+    // 캐시 효과 확인용 카운터 (부하 상황에서 hit/miss 비율 확인)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // MessageDigest는 thread-safe 하지 않으므로 스레드별로 하나씩 재사용
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    public VerifiedTokenCache(@Value("${JWT_CACHE_MAX_SIZE:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시 조회
+     * - 만료되지 않은 항목이 있으면 Claims 반환, 없으면 null
+     *   (exp가 지난 항목은 Caffeine이 반환하지 않음 → 호출부에서 정상 파싱(만료 예외) 경로를 탄다.)
+     */
+    public Claims get(String token) {
+        Claims claims = cache.getIfPresent(TokenKey.of(token));
+        if (claims == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return claims;
+    }
+
+    /**
+     * 검증 완료된 토큰 저장 후 캐시에 들어간(읽기 전용) Claims 반환
+     * - exp가 없는 토큰은 만료 시점을 알 수 없으므로 저장하지 않는다.
+     */
+    public Claims put(String token, Claims claims) {
+        Claims readOnly = ReadOnlyClaims.of(claims);
+        if (readOnly.getExpiration() != null) {
+            cache.put(TokenKey.of(token), readOnly);
+        }
+        return readOnly;
+    }
+
+    /** 토큰 무효화 (로그아웃 등) */
+    public void invalidate(String token) {
+        cache.invalidate(TokenKey.of(token));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /** 항목별 만료: 저장 시점부터 토큰의 exp까지 (exp가 이미 지났으면 즉시 만료) */
+    private static final class UntilTokenExpiry implements Expiry<TokenKey, Claims> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            long remainingMillis = exp.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * SHA-256 해시 256비트를 long 4개로 보관하는 캐시 key
+     * - 문자열/배열 대신 값 비교가 가능한 record로 두어 할당과 비교 비용을 줄인다.
+     */
+    private record TokenKey(long a, long b, long c, long d) {
+        static TokenKey of(String token) {
+            MessageDigest digest = SHA256.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
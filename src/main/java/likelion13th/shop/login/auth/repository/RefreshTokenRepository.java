@@ -22,12 +22,23 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     // - 존재하지 않을 수 있으므로 Optional로 감싼다.
     Optional<RefreshToken> findByUser(User user);
 
+    // providerId로 RefreshToken 한 건을 조회 (User를 함께 가져와 추가 조회 없이 user_id 사용)
+    // - 재발급 시 메모리 저장소(InMemoryRefreshTokenStore)가 다른 노드의 변경을 확인하는 용도
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user u WHERE u.providerId = :providerId")
+    Optional<RefreshToken> findByUserProviderId(@Param("providerId") String providerId);
+
     // 사용자 기준으로 RefreshToken을 삭제 (JPQL 직접 정의)
     // - @Modifying: DML(DELETE/UPDATE) 쿼리임을 명시
     // - 트랜잭션 경계(@Transactional)는 서비스 레이어에서 감싸는 것을 권장
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.user = :user")
     void deleteByUser(@Param("user") User user);
+
+    // 만료된 RefreshToken을 limit 건씩 삭제 (MySQL DELETE ... LIMIT, ttl 인덱스 사용)
+    // - 한 번에 전부 지우면 테이블 잠금이 길어지므로 RefreshTokenSweeper에서 나눠서 호출한다.
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE ttl < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") long now, @Param("limit") int limit);
 }
 
 /*
@@ -4,6 +4,7 @@ import likelion13th.shop.domain.User;
 import likelion13th.shop.global.api.ErrorCode;
 import likelion13th.shop.global.exception.GeneralException;
 import likelion13th.shop.login.auth.jwt.CustomUserDetails;
+import likelion13th.shop.login.cache.UserSnapshotCache;
 import likelion13th.shop.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,28 +25,30 @@ public class JpaUserDetailsManager implements UserDetailsManager {
 
     private final UserRepository userRepository;   // // 사용자 조회/저장용 JPA 레포지토리
     private final PasswordEncoder passwordEncoder; // // (참고) 현재 소셜 로그인이라 직접 사용하지 않지만, 비밀번호 기반 로그인으로 확장 시 필요
+    private final UserSnapshotCache userSnapshotCache; // // providerId → 읽기 전용 사용자 스냅샷 캐시
 
     // // 생성자 주입 (스프링이 자동으로 빈 주입)
-    public JpaUserDetailsManager(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public JpaUserDetailsManager(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                 UserSnapshotCache userSnapshotCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userSnapshotCache = userSnapshotCache;
     }
 
     /**
      * // Security가 인증 과정에서 호출하는 메서드
      * // - providerId를 username으로 간주하고 사용자 정보를 조회
-     * // - 찾은 User 엔티티를 CustomUserDetails로 변환하여 반환
+     * // - 찾은 사용자 스냅샷을 CustomUserDetails로 변환하여 반환 (캐시 hit 시 DB 조회 없음)
      */
     @Override
     public UserDetails loadUserByUsername(String providerId) throws UsernameNotFoundException {
-        User user = userRepository.findByProviderId(providerId)
+        return userSnapshotCache.get(providerId)
+                .map(CustomUserDetails::fromSnapshot) // // 스냅샷 → Security에서 쓰는 UserDetails로 변환
                 .orElseThrow(() -> {
                     // // 없는 사용자면 우리 공통 예외로 변환 (API 응답 표준화에 맞춤)
                     log.warn("// 유저 정보 없음 (provider_id): {}", providerId);
-                    throw new GeneralException(ErrorCode.USER_NOT_FOUND);
+                    return new GeneralException(ErrorCode.USER_NOT_FOUND);
                 });
-        // // DB 엔티티 → Security에서 쓰는 UserDetails로 변환
-        return CustomUserDetails.fromEntity(user);
     }
     // // 권장 형태(참고): 한 줄로 예외 공급
     // // .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
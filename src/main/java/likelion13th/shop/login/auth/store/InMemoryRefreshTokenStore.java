@@ -0,0 +1,161 @@
+package likelion13th.shop.login.auth.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 RefreshTokenStore
+ * - providerId → StoredRefreshToken 을 ConcurrentHashMap에 보관
+ * - 만료 처리는 해시 타이밍 휠(timing wheel)로 한다.
+ *   · 휠은 tickMillis 간격의 슬롯 wheelSize개로 구성되고, 토큰은 ttl이 속한 슬롯에 등록된다.
+ *   · 매 tick마다 현재 슬롯 하나만 확인하므로, 전체 토큰을 훑지 않고 만료된 것만 제거된다.
+ * - DB 반영은 JpaRefreshTokenPersister가 비동기로 처리(write-behind)한다.
+ * - 조회(재발급)는 DB 행을 기준으로 한다. (여러 인스턴스 운영 시 다른 노드의 회전/로그아웃을 놓치지 않기 위함)
+ *   · 이 노드가 저장한 토큰이 아직 DB에 반영되지 않았으면(pendingSaves) 메모리 값을 그대로 쓴다.
+ *   · 그 외에는 DB 행을 한 번 읽어(user unique 인덱스) 메모리를 맞춘다. 행이 없으면 다른 노드에서 삭제된 것으로 본다.
+ * - 삭제(로그아웃)는 DB 반영이 끝날 때까지 tombstone을 남긴다.
+ *   → 아직 지워지지 않은 DB 행을 다시 읽어 로그아웃이 되돌려지는 일을 막는다.
+ *   (DB 삭제가 실패하면 tombstone을 유지 → 같은 사용자가 다시 로그인(save)할 때까지 조회되지 않음)
+ *
+ * 제약:
+ * - 다른 노드의 변경은 그 노드의 DB 반영(수 ms 이내)이 끝난 뒤부터 보인다.
+ */
+@Slf4j
+@Component
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, StoredRefreshToken> tokens = new ConcurrentHashMap<>();
+    // DB 삭제가 아직 반영되지 않은 providerId → tombstone (삭제 요청마다 새 객체, 완료 시 같은 객체일 때만 제거)
+    private final Map<String, Object> pendingDeletes = new ConcurrentHashMap<>();
+    // 이 노드가 저장했지만 DB 반영이 아직 끝나지 않은 토큰 (반영 완료 시 같은 객체일 때만 제거)
+    private final Map<String, StoredRefreshToken> pendingSaves = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel;
+    private final long tickMillis;
+    private final JpaRefreshTokenPersister persister;
+
+    // 마지막으로 처리한 tick 번호 (epoch millis / tickMillis)
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryRefreshTokenStore(
+            JpaRefreshTokenPersister persister,
+            @Value("${REFRESH_STORE_TICK_MILLIS:60000}") long tickMillis,
+            @Value("${REFRESH_STORE_WHEEL_SIZE:1440}") int wheelSize) {
+        this.persister = persister;
+        this.tickMillis = tickMillis;
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(String providerId) {
+        long now = System.currentTimeMillis();
+        // 삭제 대기 중이면 DB에 남아 있는 행을 다시 읽지 않는다.
+        if (pendingDeletes.containsKey(providerId)) {
+            return Optional.empty();
+        }
+        StoredRefreshToken local = tokens.get(providerId);
+        // 이 노드의 최신 저장이 아직 DB에 없으면 메모리 값이 기준
+        if (local != null && pendingSaves.get(providerId) == local) {
+            return local.isExpired(now) ? Optional.empty() : Optional.of(local);
+        }
+
+        // DB 행 기준으로 확인 (다른 노드에서 회전/삭제되었을 수 있음)
+        StoredRefreshToken loaded = persister.load(providerId)
+                .filter(token -> !token.isExpired(now))
+                .orElse(null);
+        // 읽는 사이에 이 노드에서 삭제/교체가 있었으면 그 결과를 따른다.
+        // (delete는 tombstone을 먼저 남기고 메모리를 지우므로, 같은 key의 compute와 순서가 맞춰진다)
+        StoredRefreshToken token = tokens.compute(providerId, (key, current) -> {
+            if (current != local || pendingDeletes.containsKey(key) || Objects.equals(current, loaded)) {
+                return current;
+            }
+            return loaded;
+        });
+        if (token == null || token.isExpired(now)) {
+            return Optional.empty();
+        }
+        if (token == loaded) {
+            wheel[slotOf(loaded.ttl())].add(providerId);
+        }
+        return Optional.of(token);
+    }
+
+    @Override
+    public void save(StoredRefreshToken token) {
+        // 새 토큰이 이전 삭제를 대체 (DB에는 단일 writer 순서대로 삭제 → 저장이 반영됨)
+        pendingDeletes.remove(token.providerId());
+        pendingSaves.put(token.providerId(), token);
+        put(token);
+        // DB 반영이 실패해도 해제 → 이후 조회는 DB 행 기준 (다른 노드의 로그아웃을 놓치지 않도록)
+        persister.saveAsync(token).whenComplete((ignored, e) ->
+                pendingSaves.remove(token.providerId(), token));
+    }
+
+    @Override
+    public void delete(String providerId, Long userId) {
+        Object tombstone = new Object();
+        pendingDeletes.put(providerId, tombstone);
+        tokens.remove(providerId);
+        persister.deleteAsync(userId).whenComplete((ignored, e) -> {
+            if (e == null) {
+                pendingDeletes.remove(providerId, tombstone);
+            }
+        });
+    }
+
+    private void put(StoredRefreshToken token) {
+        tokens.put(token.providerId(), token);
+        wheel[slotOf(token.ttl())].add(token.providerId());
+    }
+
+    private int slotOf(long ttl) {
+        return (int) Math.floorMod(ttl / tickMillis, (long) wheel.length);
+    }
+
+    /**
+     * 타이밍 휠 진행
+     * - 지난 tick 이후 지나온 슬롯만 확인하여 만료된 토큰을 메모리에서 제거
+     * - 슬롯에 남아 있어도 ttl이 아직 안 지났으면(다음 바퀴) 그대로 둔다.
+     * - DB 행 정리는 별도 작업의 몫이며, 여기서는 메모리만 비운다.
+     */
+    @Scheduled(fixedRateString = "${REFRESH_STORE_TICK_MILLIS:60000}")
+    public synchronized void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMillis;
+        long ticks = Math.min(currentTick - lastTick, wheel.length);
+        int removed = 0;
+        for (long t = currentTick - ticks + 1; t <= currentTick; t++) {
+            Set<String> slot = wheel[(int) Math.floorMod(t, (long) wheel.length)];
+            for (String providerId : slot) {
+                StoredRefreshToken token = tokens.get(providerId);
+                if (token == null) {
+                    slot.remove(providerId);
+                } else if (token.isExpired(now)) {
+                    if (tokens.remove(providerId, token)) {
+                        removed++;
+                    }
+                    slot.remove(providerId);
+                } else if (slotOf(token.ttl()) != Math.floorMod(t, (long) wheel.length)) {
+                    // 토큰이 교체되어 다른 슬롯으로 옮겨간 경우
+                    slot.remove(providerId);
+                }
+            }
+        }
+        lastTick = currentTick;
+        if (removed > 0) {
+            log.debug("만료 RefreshToken 메모리 정리 - {}건", removed);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package likelion13th.shop.login.auth.store;
+
+import jakarta.annotation.PreDestroy;
+import likelion13th.shop.domain.User;
+import likelion13th.shop.login.auth.jwt.RefreshToken;
+import likelion13th.shop.login.auth.repository.RefreshTokenRepository;
+import likelion13th.shop.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token의 DB(JPA) 영속 계층 - write-behind
+ * - 메모리 저장소(InMemoryRefreshTokenStore)에 먼저 반영한 뒤, DB 반영은 별도 스레드에서 비동기로 처리한다.
+ * - 단일 스레드 executor를 사용하므로 같은 사용자에 대한 저장/삭제 순서가 그대로 유지된다.
+ * - 서버 재시작 등으로 메모리에 없을 때는 load()로 DB에서 읽어온다(read-through).
+ */
+@Slf4j
+@Component
+public class JpaRefreshTokenPersister {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "refresh-token-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JpaRefreshTokenPersister(RefreshTokenRepository refreshTokenRepository,
+                                    UserRepository userRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** DB에서 providerId의 Refresh Token 조회 (메모리 miss 시에만 호출) */
+    public Optional<StoredRefreshToken> load(String providerId) {
+        return refreshTokenRepository.findByUserProviderId(providerId)
+                .map(rt -> new StoredRefreshToken(providerId, rt.getUser().getId(), rt.getRefreshToken(), rt.getTtl()));
+    }
+
+    /**
+     * Refresh Token upsert를 비동기로 DB에 반영
+     * - 반환된 future는 DB 반영이 커밋되면 정상 완료, 실패하면 예외로 완료된다.
+     */
+    public CompletableFuture<Void> saveAsync(StoredRefreshToken token) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> upsert(token));
+            } catch (RuntimeException e) {
+                log.error("RefreshToken DB 반영 실패 (user_id={})", token.userId(), e);
+                throw e;
+            }
+        }, writer);
+    }
+
+    /**
+     * Refresh Token 삭제를 비동기로 DB에 반영
+     * - 반환된 future는 DB 삭제가 커밋되면 정상 완료, 실패하면 예외로 완료된다.
+     */
+    public CompletableFuture<Void> deleteAsync(Long userId) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        refreshTokenRepository.deleteByUser(userRepository.getReferenceById(userId)));
+            } catch (RuntimeException e) {
+                log.error("RefreshToken DB 삭제 실패 (user_id={})", userId, e);
+                throw e;
+            }
+        }, writer);
+    }
+
+    private void upsert(StoredRefreshToken token) {
+        User user = userRepository.getReferenceById(token.userId());
+        RefreshToken entity = refreshTokenRepository.findByUser(user)
+                .orElseGet(() -> RefreshToken.builder().user(user).build());
+        entity.updateRefreshToken(token.refreshToken());
+        entity.updateTtl(token.ttl());
+        refreshTokenRepository.save(entity);
+    }
+
+    /** 종료 시 남은 DB 반영 작업을 최대한 마무리 */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("RefreshToken DB 반영 작업이 종료 시간 내에 끝나지 않았습니다.");
+        }
+    }
+}
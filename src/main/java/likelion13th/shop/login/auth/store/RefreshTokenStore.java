@@ -0,0 +1,21 @@
+package likelion13th.shop.login.auth.store;
+
+import java.util.Optional;
+
+/**
+ * Refresh Token 저장소 추상화
+ * - 사용자(providerId)당 Refresh Token 1개를 보관한다.
+ * - 구현체에 따라 메모리/DB/외부 저장소(Redis 등)로 교체할 수 있도록 인터페이스로 분리
+ * - 삭제 이후의 find는 삭제된 토큰을 다시 돌려주지 않아야 한다. (다른 노드에서 삭제/회전한 경우 포함)
+ */
+public interface RefreshTokenStore {
+
+    /** providerId로 만료되지 않은 Refresh Token 조회 */
+    Optional<StoredRefreshToken> find(String providerId);
+
+    /** Refresh Token 저장 또는 교체 (upsert) */
+    void save(StoredRefreshToken token);
+
+    /** Refresh Token 삭제 (로그아웃/무효 토큰) */
+    void delete(String providerId, Long userId);
+}
@@ -0,0 +1,99 @@
+package likelion13th.shop.login.auth.store;
+
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.login.auth.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 RefreshToken 행 정리 작업
+ * - ttl(만료 시각)이 지난 행을 batchSize 건씩 나눠 삭제한다.
+ * - 각 묶음은 별도 트랜잭션으로 처리하고, 묶음 사이에 pauseMillis만큼 쉬어
+ *   로그인/재발급 요청과 테이블 잠금 경쟁을 줄인다.
+ * - 실행마다 삭제 건수와 소요 시간을 남긴다.
+ * - 여러 인스턴스 중 임대(LEASE_NAME)를 가진 노드 하나만 실행한다. (만료 행 삭제는 중복 실행돼도 결과가 같아 토큰 조건은 생략)
+ */
+@Slf4j
+@Component
+public class RefreshTokenSweeper {
+
+    static final String LEASE_NAME = "refresh-token-sweep";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    // 실행 통계 (직전 실행 삭제 건수 / 누적 삭제 건수)
+    private final AtomicLong lastPurged = new AtomicLong();
+    private final AtomicLong totalPurged = new AtomicLong();
+
+    public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository,
+                               LeaseManager leaseManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${REFRESH_SWEEP_BATCH_SIZE:1000}") int batchSize,
+                               @Value("${REFRESH_SWEEP_PAUSE_MILLIS:100}") long pauseMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${REFRESH_SWEEP_INTERVAL_MILLIS:3600000}")
+    public void sweep() {
+        if (!leaseManager.runIfLeader(LEASE_NAME, this::purgeExpired)) {
+            log.debug("만료 RefreshToken 정리 - 다른 노드가 리더라 건너뜀");
+        }
+    }
+
+    private void purgeExpired(long fencingToken) {
+        long startedAt = System.currentTimeMillis();
+        long purged = 0;
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status ->
+                    refreshTokenRepository.deleteExpired(startedAt, batchSize));
+            int count = deleted == null ? 0 : deleted;
+            purged += count;
+
+            // 마지막 묶음이면 종료
+            if (count < batchSize) {
+                break;
+            }
+            if (!leaseManager.isCurrent(LEASE_NAME, fencingToken) || !pause()) {
+                break;
+            }
+        }
+
+        lastPurged.set(purged);
+        totalPurged.addAndGet(purged);
+        log.info("만료 RefreshToken 정리 완료 - 삭제 {}건, 소요 {}ms, 누적 {}건",
+                purged, System.currentTimeMillis() - startedAt, totalPurged.get());
+    }
+
+    public long getLastPurged() {
+        return lastPurged.get();
+    }
+
+    public long getTotalPurged() {
+        return totalPurged.get();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
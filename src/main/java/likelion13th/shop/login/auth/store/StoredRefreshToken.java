@@ -0,0 +1,16 @@
+package likelion13th.shop.login.auth.store;
+
+/**
+ * RefreshTokenStore에 보관하는 값
+ *
+ * @param providerId   소셜 고유 ID (store의 key)
+ * @param userId       users.user_id (DB 반영 시 FK로 사용)
+ * @param refreshToken Refresh Token 원문 (로그 출력 금지)
+ * @param ttl          만료 시각(epoch millis) - RefreshToken.ttl과 같은 의미
+ */
+public record StoredRefreshToken(String providerId, Long userId, String refreshToken, long ttl) {
+
+    public boolean isExpired(long now) {
+        return ttl <= now;
+    }
+}
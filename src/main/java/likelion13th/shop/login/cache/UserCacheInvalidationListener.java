@@ -0,0 +1,43 @@
+package likelion13th.shop.login.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import likelion13th.shop.domain.User;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경 감지 → UserSnapshotCache 무효화
+ * - updateAddress 등으로 바뀐 값은 UPDATE 시점에 반영되므로
+ *   @PostUpdate에서 캐시를 지운다.
+ * - 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로, 커밋 이후에 한 번 더 지운다.
+ * - 스프링 빈으로 등록되어 있어 Hibernate가 생성자 주입된 인스턴스를 사용한다.
+ *   (EntityManagerFactory 생성 중에 만들어지므로, UserRepository를 쓰는 캐시는 @Lazy로 주입해 순환 참조를 피함)
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final UserSnapshotCache userSnapshotCache;
+
+    public UserCacheInvalidationListener(@Lazy UserSnapshotCache userSnapshotCache) {
+        this.userSnapshotCache = userSnapshotCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String providerId = user.getProviderId();
+        userSnapshotCache.evict(providerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userSnapshotCache.evict(providerId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package likelion13th.shop.login.cache;
+
+import likelion13th.shop.domain.Address;
+import likelion13th.shop.domain.User;
+
+/**
+ * 읽기 전용 사용자 스냅샷
+ * - 조회 API(마일리지, 주소, 토큰 발급 등)에 필요한 필드만 복사해 둔 불변 객체
+ * - 영속성 컨텍스트와 무관하므로 캐시에 보관해도 안전하다.
+ * - 값을 변경해야 하는 로직은 반드시 User 엔티티를 조회해서 사용할 것
+ * - 마일리지/구매액은 원장에 쌓이므로 여기에 두지 않는다. (MileageService.getBalance)
+ */
+public record UserSnapshot(
+        Long id,
+        String providerId,
+        String usernickname,
+        Address address
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getProviderId(),
+                user.getUsernickname(),
+                user.getAddress()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package likelion13th.shop.login.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import likelion13th.shop.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * providerId → UserSnapshot 캐시
+ * - 거의 모든 API가 providerId로 사용자를 조회하므로, 읽기 전용 경로는 이 캐시를 거친다.
+ * - 최대 크기(maxSize) + 쓰기 후 만료(ttl)로 메모리와 오래된 값을 제한한다.
+ * - User 엔티티가 수정(마일리지 사용/적립, 총 결제 금액, 주소 변경)되면
+ *   UserCacheInvalidationListener가 해당 providerId를 즉시 무효화한다.
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${USER_CACHE_MAX_SIZE:10000}") long maxSize,
+                             @Value("${USER_CACHE_TTL_SECONDS:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * providerId로 스냅샷 조회
+     * - 캐시에 없으면 DB에서 읽어 채운다. (존재하지 않는 사용자는 캐싱하지 않음)
+     */
+    public Optional<UserSnapshot> get(String providerId) {
+        UserSnapshot cached = cache.getIfPresent(providerId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findByProviderId(providerId)
+                .map(UserSnapshot::from)
+                .map(snapshot -> {
+                    cache.put(providerId, snapshot);
+                    return snapshot;
+                });
+    }
+
+    /** 사용자 정보 변경 시 무효화 */
+    public void evict(String providerId) {
+        cache.invalidate(providerId);
+        log.debug("사용자 스냅샷 캐시 무효화 (provider_id={})", providerId);
+    }
+}
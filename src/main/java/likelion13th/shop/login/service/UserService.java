@@ -2,21 +2,20 @@ package likelion13th.shop.login.service;
 
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
-// 권장: org.springframework.transaction.annotation.Transactional 사용 (readOnly 등 추가 옵션 제공)
-import jakarta.transaction.Transactional;
-
 import likelion13th.shop.domain.User;
 import likelion13th.shop.global.api.ErrorCode;
 import likelion13th.shop.global.exception.GeneralException;
 import likelion13th.shop.login.auth.dto.JwtDto;
-import likelion13th.shop.login.auth.jwt.RefreshToken;
+import likelion13th.shop.login.auth.jwt.CustomUserDetails;
 import likelion13th.shop.login.auth.jwt.TokenProvider;
-import likelion13th.shop.login.auth.repository.RefreshTokenRepository;
 import likelion13th.shop.login.auth.service.JpaUserDetailsManager;
+import likelion13th.shop.login.auth.store.RefreshTokenStore;
+import likelion13th.shop.login.auth.store.StoredRefreshToken;
+import likelion13th.shop.login.cache.UserSnapshot;
+import likelion13th.shop.login.cache.UserSnapshotCache;
 import likelion13th.shop.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -31,10 +30,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserService {
 
+    // Refresh Token 만료 시각 계산용 (발급 시점 + 1일)
+    private static final long REFRESH_TOKEN_TTL_MILLIS = 1000L * 60 * 60 * 24;
+
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final TokenProvider tokenProvider;
     private final JpaUserDetailsManager manager;
+    private final UserSnapshotCache userSnapshotCache;
 
     // ============================================================
     //  1) 회원 관련 서비스
@@ -56,39 +59,75 @@ public class UserService {
                 .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 인증 정보로 회원 강제 조회 (없으면 USER_NOT_FOUND 예외)
+     * - Access Token에 user_id가 있으면 PK로 조회, 없으면(이전 토큰) provider_id로 조회
+     */
+    public User getAuthenticatedUser(CustomUserDetails userDetails) {
+        Long userId = userDetails.getUserId();
+        if (userId == null) {
+            return getAuthenticatedUser(userDetails.getProviderId());
+        }
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 인증 정보로 회원 참조 (FK 지정 등 필드를 읽지 않는 용도)
+     * - Access Token에 user_id가 있으면 SELECT 없이 프록시 참조만 만든다. (없는 사용자면 이후 INSERT의 FK 제약에서 실패)
+     * - 없으면(이전 토큰) provider_id로 조회
+     */
+    public User getAuthenticatedUserReference(CustomUserDetails userDetails) {
+        Long userId = userDetails.getUserId();
+        if (userId == null) {
+            return getAuthenticatedUser(userDetails.getProviderId());
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * 인증 정보의 user_id
+     * - Access Token의 user_id를 그대로 사용하고, 없으면(이전 토큰) 스냅샷 캐시에서 찾는다.
+     */
+    public Long getAuthenticatedUserId(CustomUserDetails userDetails) {
+        Long userId = userDetails.getUserId();
+        return userId != null ? userId : getUserSnapshot(userDetails.getProviderId()).id();
+    }
+
+    /**
+     * provider_id로 읽기 전용 사용자 스냅샷 조회 (없으면 USER_NOT_FOUND 예외)
+     * - 캐시 hit 시 DB 조회 없음. 값 변경이 필요하면 getAuthenticatedUser를 사용할 것
+     */
+    public UserSnapshot getUserSnapshot(String providerId) {
+        return userSnapshotCache.get(providerId)
+                .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
+    }
+
     // ============================================================
     //  2) Refresh Token 관련 서비스
     // ============================================================
 
     /**
      * Refresh Token 저장 또는 갱신
-     * - providerId로 User를 조회한 뒤, 사용자당 1개의 RefreshToken 행을 upsert한다.
+     * - providerId로 사용자 스냅샷을 조회한 뒤, 사용자당 1개의 RefreshToken을 upsert한다.
+     * - user_id를 이미 알고 있다면 saveRefreshToken(providerId, userId, refreshToken)을 사용
      */
-    @Transactional
     public void saveRefreshToken(String providerId, String refreshToken) {
-        // 1. 사용자 조회
-        User user = userRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
+        saveRefreshToken(providerId, getUserSnapshot(providerId).id(), refreshToken);
+    }
 
-        // 2. 기존 토큰이 있으면 교체, 없으면 생성
-        RefreshToken token = refreshTokenRepository.findByUser(user)
-                .map(existingToken -> {
-                    existingToken.updateRefreshToken(refreshToken);
-                    return existingToken;
-                })
-                .orElseGet(() -> {
-                    log.info("새 RefreshToken 생성 시도 (user_id={})", user.getId());
-                    return RefreshToken.builder()
-                            .user(user)                                   // User와 1:1
-                            .refreshToken(refreshToken)                   // 실제 RT 문자열
-                            .ttl(System.currentTimeMillis()
-                                    + 1000L * 60 * 60 * 24)          // 만료 시각(예: 1일)
-                            .build();
-                });
-
-        // 3. 저장
-        refreshTokenRepository.save(token);
-        log.info("RefreshToken 저장 완료 (user_id={})", user.getId());
+    /**
+     * Refresh Token 저장 또는 갱신 (user_id를 알고 있는 경우)
+     * - 메모리 저장소에 즉시 반영하고, DB 반영은 비동기(write-behind)로 처리된다.
+     */
+    public void saveRefreshToken(String providerId, Long userId, String refreshToken) {
+        refreshTokenStore.save(new StoredRefreshToken(
+                providerId,
+                userId,
+                refreshToken,
+                System.currentTimeMillis() + REFRESH_TOKEN_TTL_MILLIS // 만료 시각(예: 1일)
+        ));
+        log.info("RefreshToken 저장 완료 (user_id={})", userId);
     }
 
     // ============================================================
@@ -98,19 +137,19 @@ public class UserService {
     /**
      * Access/Refresh 토큰 동시 생성 + Refresh 저장
      * - providerId로 UserDetails를 로드 → TokenProvider로 JWT 생성 → RefreshToken upsert
+     * - 로드한 UserDetails의 user_id를 그대로 사용하므로 사용자 조회는 1번만 한다.
      */
-    @Transactional
     public JwtDto jwtMakeSave(String providerId) {
         log.info("UserDetailsManager 타입: {}", manager.getClass().getName());
 
         // 1. providerId 기반 사용자 로드 (Security용 UserDetails)
-        UserDetails details = manager.loadUserByUsername(providerId);
+        CustomUserDetails details = (CustomUserDetails) manager.loadUserByUsername(providerId);
 
         // 2. JWT 생성 (Access에 권한 포함, Refresh에는 권한 미포함)
         JwtDto jwt = tokenProvider.generateTokens(details);
 
         // 3. RefreshToken 저장/갱신
-        saveRefreshToken(providerId, jwt.getRefreshToken());
+        saveRefreshToken(providerId, details.getUserId(), jwt.getRefreshToken());
         return jwt;
     }
 
@@ -121,9 +160,9 @@ public class UserService {
     /**
      * Access 만료 상황에서의 재발급 엔드포인트용 로직
      * - 헤더 Authorization에서 Access 토큰을 받아 subject(providerId)를 추출한다.
-     * - DB에 저장된 RefreshToken이 유효하면 새 Access/Refresh를 재발급한다(회전).
+     * - 저장된 RefreshToken이 유효하면 새 Access/Refresh를 재발급한다(회전).
+     * - RefreshToken 조회는 DB 행 기준(다른 노드의 회전/로그아웃 반영), 교체 저장은 비동기로 DB에 반영된다.
      */
-    @Transactional
     public JwtDto reissue(HttpServletRequest request) {
         log.info("[STEP 1] Access Token 재발급 요청 시작");
 
@@ -148,37 +187,32 @@ public class UserService {
             throw new GeneralException(ErrorCode.TOKEN_INVALID);
         }
 
-        // 3. providerId로 사용자 조회
-        User user = findByProviderId(providerId)
-                .orElseThrow(() -> {
-                    log.error("[ERROR] providerId={} 사용자 없음", providerId);
-                    return new GeneralException(ErrorCode.USER_NOT_FOUND);
-                });
-        log.info("[STEP 3] User 조회 성공 (user_id={}, providerId={})", user.getId(), user.getProviderId());
-
-        // 4. DB에 저장된 Refresh Token 조회
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByUser(user)
+        // 3. 저장된 Refresh Token 조회 (이 노드의 미반영 저장이 없으면 DB 행 확인)
+        StoredRefreshToken stored = refreshTokenStore.find(providerId)
                 .orElseThrow(() -> new GeneralException(ErrorCode.WRONG_REFRESH_TOKEN));
+        log.info("[STEP 3] RefreshToken 조회 성공 (user_id={}, providerId={})", stored.userId(), providerId);
 
-        // 5. Refresh Token 유효성 검증 (서명/만료 등)
-        if (!tokenProvider.validateToken(refreshTokenEntity.getRefreshToken())) {
-            // 만료/위조 등으로 무효 → DB에서 삭제 후 만료 에러
-            refreshTokenRepository.deleteByUser(user);
-            log.error("[ERROR] Refresh Token 만료 또는 무효 - 삭제 완료 (user_id={})", user.getId());
+        // 4. Refresh Token 유효성 검증 (서명/만료 등)
+        if (!tokenProvider.validateToken(stored.refreshToken())) {
+            // 만료/위조 등으로 무효 → 저장소에서 삭제 후 만료 에러
+            refreshTokenStore.delete(providerId, stored.userId());
+            log.error("[ERROR] Refresh Token 만료 또는 무효 - 삭제 완료 (user_id={})", stored.userId());
             throw new GeneralException(ErrorCode.TOKEN_EXPIRED);
         }
         // (선택 강화) 주체 일치성 확인:
-        // Claims rtClaims = tokenProvider.parseClaims(refreshTokenEntity.getRefreshToken());
+        // Claims rtClaims = tokenProvider.parseClaims(stored.refreshToken());
         // if (!providerId.equals(rtClaims.getSubject())) { ... }
 
-        // 6. 새 Access/Refresh 발급 (회전)
-        UserDetails userDetails = manager.loadUserByUsername(providerId);
+        // 5. 새 Access/Refresh 발급 (회전)
+        //    - 저장된 RefreshToken이 있다는 것 자체가 가입된 사용자임을 의미하므로 사용자 재조회 없이
+        //      기존 Access Token의 권한으로 UserDetails를 구성한다.
+        CustomUserDetails userDetails = CustomUserDetails.fromToken(
+                providerId, stored.userId(), tokenProvider.getAuthFromClaims(claims));
         JwtDto newJwt = tokenProvider.generateTokens(userDetails);
         log.info("[STEP 4] 새로운 Access/Refresh Token 발급 완료");
 
-        // 7. Refresh 토큰 교체 저장
-        refreshTokenEntity.updateRefreshToken(newJwt.getRefreshToken());
-        refreshTokenRepository.save(refreshTokenEntity);
+        // 6. Refresh 토큰 교체 저장 (만료 시각도 함께 갱신)
+        saveRefreshToken(providerId, stored.userId(), newJwt.getRefreshToken());
 
         return newJwt;
     }
@@ -191,7 +225,6 @@ public class UserService {
      * 로그아웃
      * - 현재 Access Token의 subject(providerId)를 추출하여 해당 사용자의 RefreshToken 레코드를 삭제한다.
      */
-    @Transactional
     public void logout(HttpServletRequest request) {
         // 1. Authorization 헤더에서 Access 토큰 추출
         String accessToken = request.getHeader("Authorization");
@@ -210,8 +243,7 @@ public class UserService {
         User user = findByProviderId(providerId)
                 .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
 
-        // 4. Refresh Token 삭제 (세션 종료 효과)
-        refreshTokenRepository.deleteByUser(user);
-        refreshTokenRepository.flush(); // 즉시 반영이 꼭 필요하지 않다면 생략 가능
+        // 4. Refresh Token 삭제 (세션 종료 효과, DB 반영은 비동기)
+        refreshTokenStore.delete(providerId, user.getId());
     }
 }
@@ -1,12 +1,24 @@
 package likelion13th.shop.repository;
 
 import likelion13th.shop.domain.Category;
+import likelion13th.shop.repository.projection.CategoryItemLink;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findById(Long id);
-}
\ No newline at end of file
+
+    // 전체 카테고리 id (카탈로그 스냅샷 구성용)
+    @Query("SELECT c.id FROM Category c")
+    List<Long> findAllIds();
+
+    // category_item 전체 매핑 (카테고리 → 상품 순 정렬)
+    @Query(value = "SELECT ci.category_id AS categoryId, ci.item_id AS itemId FROM category_item ci " +
+            "ORDER BY ci.category_id, ci.item_id", nativeQuery = true)
+    List<CategoryItemLink> findAllItemLinks();
+}
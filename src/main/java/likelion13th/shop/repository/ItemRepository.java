@@ -1,10 +1,50 @@
 package likelion13th.shop.repository;
 
 import likelion13th.shop.domain.Item;
+import likelion13th.shop.repository.projection.ItemSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findAllByIsNew(boolean isNew);
+    // 카테고리별 상품 keyset 페이지 조회 (category_item 중간 테이블 직접 조인, item_id 오름차순)
+    // - cursor(마지막으로 받은 item_id) 이후 limit 건만 읽으므로 카테고리 크기와 무관하게 일정한 비용
+    // - ItemResponse에 필요한 컬럼만 projection으로 조회 (Item 엔티티를 만들지 않음)
+    @Query(value = "SELECT i.item_id AS id, i.item_name AS name, i.price AS price, i.brand AS brand, " +
+            "i.image_path AS imagePath, i.is_new AS isNew, i.image_variants AS imageVariants " +
+            "FROM category_item ci " +
+            "JOIN item i ON i.item_id = ci.item_id " +
+            "WHERE ci.category_id = :categoryId AND ci.item_id > :cursor " +
+            "ORDER BY ci.item_id LIMIT :limit", nativeQuery = true)
+    List<ItemSummary> findPageByCategory(@Param("categoryId") Long categoryId,
+                                         @Param("cursor") long cursor,
+                                         @Param("limit") int limit);
+
+    // 전체 상품 projection (카탈로그 스냅샷 구성용, item_id 오름차순)
+    @Query("SELECT i.id AS id, i.itemName AS name, i.price AS price, i.brand AS brand, " +
+            "i.imagePath AS imagePath, i.isNew AS isNew, i.imageVariants AS imageVariants " +
+            "FROM Item i ORDER BY i.id")
+    List<ItemSummary> findAllSummaries();
+
+    // 상품 단건 projection
+    @Query("SELECT i.id AS id, i.itemName AS name, i.price AS price, i.brand AS brand, " +
+            "i.imagePath AS imagePath, i.isNew AS isNew, i.imageVariants AS imageVariants " +
+            "FROM Item i WHERE i.id = :id")
+    Optional<ItemSummary> findSummaryById(@Param("id") Long id);
+
+    // 상품 다건 projection (IN 쿼리 한 번)
+    @Query("SELECT i.id AS id, i.itemName AS name, i.price AS price, i.brand AS brand, " +
+            "i.imagePath AS imagePath, i.isNew AS isNew, i.imageVariants AS imageVariants " +
+            "FROM Item i WHERE i.id IN :ids")
+    List<ItemSummary> findSummariesByIdIn(@Param("ids") Collection<? extends Long> ids);
+
+    // 원본 이미지 URL로 상품 조회 (변형 이미지 연결용)
+    List<Item> findByImagePathIn(Collection<String> imagePaths);
+
+    // 아직 변형 이미지가 연결되지 않은 상품 (변형 이미지 연결 점검용)
+    List<Item> findByImageVariantsFalse();
 }
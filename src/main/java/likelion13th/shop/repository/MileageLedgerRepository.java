@@ -0,0 +1,65 @@
+package likelion13th.shop.repository;
+
+import likelion13th.shop.domain.MileageLedger;
+import likelion13th.shop.repository.projection.MileageBalance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MileageLedgerRepository extends JpaRepository<MileageLedger, Long> {
+
+    // 잔액 조회: users 스냅샷 + 워터마크 이후 원장 합계 (user_id, entry_id 인덱스 범위 조회)
+    @Query(value = "SELECT u.max_mileage + COALESCE(SUM(m.mileage_delta), 0) AS mileage, " +
+            "u.recent_total + COALESCE(SUM(m.purchase_delta), 0) AS purchaseTotal " +
+            "FROM users u LEFT JOIN mileage_ledger m ON m.user_id = u.user_id AND m.entry_id > u.mileage_watermark " +
+            "WHERE u.user_id = :userId " +
+            "GROUP BY u.user_id, u.max_mileage, u.recent_total", nativeQuery = true)
+    Optional<MileageBalance> findBalance(@Param("userId") Long userId);
+
+    // 조건부 차감: 현재 잔액이 required 이상일 때만 항목을 추가 (추가되면 1, 잔액 부족이면 0)
+    // - 잔액과 사용자의 마지막 차감 순번(debit_seq)을 같은 문장에서 읽고, 순번 + 1로 삽입한다.
+    //   같은 잔액을 보고 동시에 들어온 차감은 같은 순번을 받으므로 (user_id, debit_seq) 유니크에 걸려 하나만 남는다.
+    //   → 사용자 행 잠금 없이도 커밋된 차감은 모두 앞선 차감을 반영한 잔액으로 검사된 것
+    // - created_at은 엔티티(@CreationTimestamp)와 같은 JVM 시계 값을 받는다. (DB 시계를 쓰면 압축 cutoff 비교가 어긋남)
+    @Modifying
+    @Query(value = "INSERT INTO mileage_ledger (user_id, order_id, type, mileage_delta, purchase_delta, debit_seq, created_at) " +
+            "SELECT u.user_id, :orderId, :type, :mileageDelta, :purchaseDelta, " +
+            "(SELECT COALESCE(MAX(d.debit_seq), 0) + 1 FROM mileage_ledger d WHERE d.user_id = u.user_id), :createdAt " +
+            "FROM users u " +
+            "WHERE u.user_id = :userId AND u.max_mileage + (SELECT COALESCE(SUM(m.mileage_delta), 0) FROM mileage_ledger m " +
+            "WHERE m.user_id = u.user_id AND m.entry_id > u.mileage_watermark) >= :required", nativeQuery = true)
+    int insertIfBalanceAtLeast(@Param("userId") Long userId, @Param("orderId") Long orderId,
+                               @Param("type") String type, @Param("mileageDelta") int mileageDelta,
+                               @Param("purchaseDelta") int purchaseDelta, @Param("required") int required,
+                               @Param("createdAt") LocalDateTime createdAt);
+
+    // 압축 상한: cutoff 이전에 기록된 마지막 항목 id (없으면 null)
+    @Query("SELECT MAX(m.id) FROM MileageLedger m WHERE m.createdAt < :cutoff")
+    Long findMaxIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // (from, upTo] 구간에 항목이 있는 사용자 id (user_id 오름차순 keyset)
+    @Query("SELECT DISTINCT m.userId FROM MileageLedger m " +
+            "WHERE m.id > :from AND m.id <= :upTo AND m.userId > :afterUserId ORDER BY m.userId")
+    List<Long> findUserIdsInRange(@Param("from") long from, @Param("upTo") long upTo,
+                                  @Param("afterUserId") long afterUserId, Pageable pageable);
+
+    // 원장 꼬리를 users 스냅샷에 합치고 워터마크를 upTo로 이동
+    // - 스냅샷 + 꼬리 합계는 그대로이므로 동시에 진행 중인 잔액 조회/차감 결과에 영향 없음
+    // - 워터마크는 마지막에 대입 (앞의 합계 계산은 이전 워터마크 기준)
+    @Modifying
+    @Query(value = "UPDATE users u SET " +
+            "u.max_mileage = u.max_mileage + (SELECT COALESCE(SUM(m.mileage_delta), 0) FROM mileage_ledger m " +
+            "WHERE m.user_id = u.user_id AND m.entry_id > u.mileage_watermark AND m.entry_id <= :upTo), " +
+            "u.recent_total = u.recent_total + (SELECT COALESCE(SUM(m.purchase_delta), 0) FROM mileage_ledger m " +
+            "WHERE m.user_id = u.user_id AND m.entry_id > u.mileage_watermark AND m.entry_id <= :upTo), " +
+            "u.mileage_watermark = :upTo " +
+            "WHERE u.user_id IN (:userIds) AND u.mileage_watermark < :upTo", nativeQuery = true)
+    int compact(@Param("userIds") Collection<Long> userIds, @Param("upTo") long upTo);
+}
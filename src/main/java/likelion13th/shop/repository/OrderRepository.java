@@ -2,13 +2,84 @@ package likelion13th.shop.repository;
 
 import likelion13th.shop.domain.Order;
 import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.repository.projection.OrderSummary;
+import likelion13th.shop.repository.projection.PendingOrder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByStatusAndCreatedAtBefore(OrderStatus status, LocalDateTime dateTime);
-}
\ No newline at end of file
+    // 생성 시각이 cutoff 이전인 PROCESSING 주문을 limit 건씩 COMPLETE로 변경 (MySQL UPDATE ... LIMIT)
+    // - (status, created_at) 인덱스 사용, 엔티티를 거치지 않으므로 updated_at도 직접 갱신
+    //   (updated_at은 다른 경로와 같이 JVM 시계 값을 바인딩 → DB/JVM 시계 차이로 순서가 뒤집히지 않도록)
+    // - 한 번에 전부 바꾸면 트랜잭션/잠금이 길어지므로 OrderStatusUpdater에서 나눠서 호출한다.
+    // - fencing: 임대(lease)의 현재 토큰이 호출자가 가진 토큰과 같을 때만 변경 (리더를 잃은 노드의 쓰기 차단)
+    @Modifying
+    @Query(value = "UPDATE orders SET status = 'COMPLETE', updated_at = :now " +
+            "WHERE status = 'PROCESSING' AND created_at < :cutoff " +
+            "AND EXISTS (SELECT 1 FROM scheduler_lease l WHERE l.lease_name = :lease AND l.fencing_token = :token) " +
+            "LIMIT :limit", nativeQuery = true)
+    int completeProcessingBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit,
+                                 @Param("lease") String lease, @Param("token") long token,
+                                 @Param("now") LocalDateTime now);
+
+    // 예약된 상태 전이 실행 (현재 상태가 from인 주문만 변경 → 그 사이 취소된 주문은 건너뜀)
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to, o.updatedAt = :now WHERE o.id IN :ids AND o.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") OrderStatus from,
+                         @Param("to") OrderStatus to,
+                         @Param("now") LocalDateTime now);
+
+    // 복구한 예약 실행 (transitionStatus + 복구 임대 fencing token 조건 → 임대를 잃은 이전 리더의 실행은 무시됨)
+    @Modifying
+    @Query(value = "UPDATE orders SET status = :to, updated_at = :now " +
+            "WHERE order_id IN (:ids) AND status = :from " +
+            "AND EXISTS (SELECT 1 FROM scheduler_lease l WHERE l.lease_name = :lease AND l.fencing_token = :token)",
+            nativeQuery = true)
+    int transitionStatusFenced(@Param("ids") Collection<Long> ids,
+                               @Param("from") String from,
+                               @Param("to") String to,
+                               @Param("now") LocalDateTime now,
+                               @Param("lease") String lease, @Param("token") long token);
+
+    // 전이 예약이 없는 status 주문 (엔진 도입 이전 주문 보정용)
+    @Query("SELECT o.id AS orderId, o.createdAt AS createdAt FROM Order o WHERE o.status = :status " +
+            "AND NOT EXISTS (SELECT 1 FROM OrderTransition t WHERE t.orderId = o.id)")
+    List<PendingOrder> findWithoutTransition(@Param("status") OrderStatus status);
+
+    // 사용자 주문 목록 첫 페이지 (최신순, 상품 컬럼 함께 조회)
+    // - (user_id, created_at, order_id) 인덱스를 역순으로 읽는다.
+    @Query("SELECT o.id AS orderId, o.quantity AS quantity, o.totalPrice AS totalPrice, o.finalPrice AS finalPrice, " +
+            "o.status AS status, o.createdAt AS createdAt, " +
+            "i.id AS itemId, i.itemName AS itemName, i.price AS itemPrice, i.brand AS itemBrand, " +
+            "i.imagePath AS itemImagePath, i.isNew AS itemIsNew, i.imageVariants AS itemImageVariants, " +
+            "u.usernickname AS usernickname " +
+            "FROM Order o JOIN o.item i JOIN o.user u " +
+            "WHERE o.user.id = :userId " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummary> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자 주문 목록 다음 페이지 (cursor = 이전 페이지 마지막 주문의 (created_at, order_id))
+    @Query("SELECT o.id AS orderId, o.quantity AS quantity, o.totalPrice AS totalPrice, o.finalPrice AS finalPrice, " +
+            "o.status AS status, o.createdAt AS createdAt, " +
+            "i.id AS itemId, i.itemName AS itemName, i.price AS itemPrice, i.brand AS itemBrand, " +
+            "i.imagePath AS itemImagePath, i.isNew AS itemIsNew, i.imageVariants AS itemImageVariants, " +
+            "u.usernickname AS usernickname " +
+            "FROM Order o JOIN o.item i JOIN o.user u " +
+            "WHERE o.user.id = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummary> findPageByUserIdBefore(@Param("userId") Long userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("orderId") Long orderId,
+                                              Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package likelion13th.shop.repository;
+
+import likelion13th.shop.domain.OrderTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface OrderTransitionRepository extends JpaRepository<OrderTransition, Long> {
+
+    // 실행된 전이 삭제
+    @Modifying
+    @Query("DELETE FROM OrderTransition t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 복구한 전이 삭제 (복구 임대 fencing token 조건, 임대를 잃었으면 새 리더가 다시 복구하도록 남겨 둠)
+    @Modifying
+    @Query(value = "DELETE FROM order_transition WHERE transition_id IN (:ids) " +
+            "AND EXISTS (SELECT 1 FROM scheduler_lease l WHERE l.lease_name = :lease AND l.fencing_token = :token)",
+            nativeQuery = true)
+    int deleteByIdsFenced(@Param("ids") Collection<Long> ids, @Param("lease") String lease, @Param("token") long token);
+
+    // 주문 취소 등으로 더 이상 필요 없는 예약 삭제
+    @Modifying
+    @Query("DELETE FROM OrderTransition t WHERE t.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+}
@@ -2,6 +2,7 @@ package likelion13th.shop.repository;
 
 import likelion13th.shop.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -17,6 +18,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByProviderId(String providerId);
 
+    // 가장 앞선 마일리지 압축 위치 (MileageCompactor 기동 시 시작점)
+    @Query("SELECT COALESCE(MAX(u.mileageWatermark), 0) FROM User u")
+    long findMaxMileageWatermark();
+
     // usernickname(닉네임) 기반 사용자 찾기 (develop)
     //List<User> findByUsernickname(String usernickname);
 
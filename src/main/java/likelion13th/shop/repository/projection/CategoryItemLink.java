@@ -0,0 +1,10 @@
+package likelion13th.shop.repository.projection;
+
+/**
+ * category_item 중간 테이블 한 행 (카테고리 id, 상품 id)
+ */
+public interface CategoryItemLink {
+    Long getCategoryId();
+
+    Long getItemId();
+}
@@ -0,0 +1,22 @@
+package likelion13th.shop.repository.projection;
+
+/**
+ * 상품 목록 조회용 인터페이스 projection
+ * - ItemResponse에 필요한 컬럼만 select 하기 위함 (엔티티/영속성 컨텍스트를 거치지 않음)
+ * - 쿼리에서 컬럼 alias를 getter 이름(id, name, price, brand, imagePath, isNew, imageVariants)과 맞춰야 한다.
+ */
+public interface ItemSummary {
+    Long getId();
+
+    String getName();
+
+    Integer getPrice();
+
+    String getBrand();
+
+    String getImagePath();
+
+    Boolean getIsNew();
+
+    Boolean getImageVariants();
+}
@@ -0,0 +1,10 @@
+package likelion13th.shop.repository.projection;
+
+/**
+ * 사용자 마일리지 잔액 (압축 스냅샷 + 원장 꼬리 합계)
+ */
+public interface MileageBalance {
+    Integer getMileage();
+
+    Integer getPurchaseTotal();
+}
@@ -0,0 +1,39 @@
+package likelion13th.shop.repository.projection;
+
+import likelion13th.shop.global.constant.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 인터페이스 projection (주문 + 상품 컬럼 + 주문자 닉네임)
+ * - orders ⨝ item ⨝ users 한 번의 조회로 OrderResponse에 필요한 값만 가져온다.
+ */
+public interface OrderSummary {
+    Long getOrderId();
+
+    Integer getQuantity();
+
+    Integer getTotalPrice();
+
+    Integer getFinalPrice();
+
+    OrderStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    Long getItemId();
+
+    String getItemName();
+
+    Integer getItemPrice();
+
+    String getItemBrand();
+
+    String getItemImagePath();
+
+    Boolean getItemIsNew();
+
+    Boolean getItemImageVariants();
+
+    String getUsernickname();
+}
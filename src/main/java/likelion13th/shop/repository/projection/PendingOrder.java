@@ -0,0 +1,12 @@
+package likelion13th.shop.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태 전이 예약이 없는 진행 중 주문 (OrderLifecycleEngine 기동 시 보정용)
+ */
+public interface PendingOrder {
+    Long getOrderId();
+
+    LocalDateTime getCreatedAt();
+}
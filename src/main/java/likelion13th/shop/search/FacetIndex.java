@@ -0,0 +1,285 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshot;
+import likelion13th.shop.catalog.VirtualCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 패싯 필터용 비트맵 색인 (불변)
+ * - 상품마다 ordinal(0, 1, 2, ...)을 부여하고, 브랜드/가격대/카테고리/신상품 여부별로 BitSet을 둔다.
+ * - 필터는 같은 패싯 안에서는 OR, 패싯끼리는 AND → 비트 연산만으로 결과와 패싯별 개수를 계산
+ * - ordinal은 추가 순서대로만 늘어나고(삭제된 상품은 alive 비트만 해제) 전체 재구성 때 다시 채번한다.
+ * - ordinal [0, sortedPrefix) 구간은 item_id 오름차순이다. (전체 재구성 결과 + 마지막 id보다 큰 id로 추가된 상품)
+ *   페이지 조회는 이 구간을 cursor 위치부터 nextSetBit으로 size+1건만 훑고, 순서가 어긋난 증분 추가분만 따로 정렬해 합친다.
+ * - 상품 하나 변경은 바뀐 비트맵만 복사해서 새 인스턴스를 만든다. (읽는 쪽은 락 없이 사용)
+ */
+final class FacetIndex {
+
+    private final ItemResponse[] items;               // ordinal → 상품
+    private final int sortedPrefix;                    // 이 ordinal 미만은 item_id 오름차순
+    private final Map<Long, Integer> ordinals;         // item_id → ordinal
+    private final BitSet alive;
+    private final Map<String, BitSet> brands;
+    private final Map<PriceBand, BitSet> priceBands;
+    private final Map<Long, BitSet> categories;
+    private final BitSet newItems;
+
+    private FacetIndex(ItemResponse[] items, int sortedPrefix, Map<Long, Integer> ordinals, BitSet alive,
+                       Map<String, BitSet> brands, Map<PriceBand, BitSet> priceBands, Map<Long, BitSet> categories,
+                       BitSet newItems) {
+        this.items = items;
+        this.sortedPrefix = sortedPrefix;
+        this.ordinals = ordinals;
+        this.alive = alive;
+        this.brands = brands;
+        this.priceBands = priceBands;
+        this.categories = categories;
+        this.newItems = newItems;
+    }
+
+    /** 스냅샷 전체로 색인 생성 (ordinal = 스냅샷의 item_id 오름차순 위치) */
+    static FacetIndex build(CatalogSnapshot snapshot) {
+        List<ItemResponse> list = snapshot.items();
+        ItemResponse[] items = list.toArray(ItemResponse[]::new);
+        Map<Long, Integer> ordinals = new HashMap<>(items.length * 2);
+        BitSet alive = new BitSet(items.length);
+        Map<String, BitSet> brands = new HashMap<>();
+        Map<PriceBand, BitSet> priceBands = new EnumMap<>(PriceBand.class);
+        BitSet newItems = new BitSet(items.length);
+
+        for (int ordinal = 0; ordinal < items.length; ordinal++) {
+            ItemResponse item = items[ordinal];
+            ordinals.put(item.getId(), ordinal);
+            alive.set(ordinal);
+            brands.computeIfAbsent(item.getBrand(), b -> new BitSet()).set(ordinal);
+            priceBands.computeIfAbsent(PriceBand.of(item.getPrice()), b -> new BitSet()).set(ordinal);
+            if (item.getIsNew()) {
+                newItems.set(ordinal);
+            }
+        }
+
+        Map<Long, BitSet> categories = new HashMap<>();
+        for (Long categoryId : snapshot.categoryIds()) {
+            BitSet bits = new BitSet(items.length);
+            for (long itemId : snapshot.categoryItems(categoryId)) {
+                Integer ordinal = ordinals.get(itemId);
+                if (ordinal != null) {
+                    bits.set(ordinal);
+                }
+            }
+            categories.put(categoryId, bits);
+        }
+        return new FacetIndex(items, items.length, ordinals, alive, brands, priceBands, categories, newItems);
+    }
+
+    /**
+     * 상품 하나 추가/수정 반영
+     * - 새 상품은 다음 ordinal을 받는다. (실제 카테고리 소속은 전체 재구성 때 반영)
+     *   기존 마지막 상품보다 id가 크면(보통의 경우) 정렬 구간이 그대로 이어진다.
+     * - 브랜드/가격대/신상품/가상 카테고리 비트만 다시 계산
+     */
+    FacetIndex withItem(ItemResponse item) {
+        Integer existing = ordinals.get(item.getId());
+        int ordinal = existing != null ? existing : items.length;
+
+        ItemResponse[] nextItems = Arrays.copyOf(items, Math.max(items.length, ordinal + 1));
+        nextItems[ordinal] = item;
+        Map<Long, Integer> nextOrdinals = ordinals;
+        BitSet nextAlive = alive;
+        int nextSortedPrefix = sortedPrefix;
+        if (existing == null) {
+            if (sortedPrefix == items.length && (items.length == 0 || items[items.length - 1].getId() < item.getId())) {
+                nextSortedPrefix = ordinal + 1;
+            }
+            nextOrdinals = new HashMap<>(ordinals);
+            nextOrdinals.put(item.getId(), ordinal);
+            nextAlive = (BitSet) alive.clone();
+            nextAlive.set(ordinal);
+        }
+
+        Map<String, BitSet> nextBrands = new HashMap<>(brands);
+        Map<PriceBand, BitSet> nextBands = new EnumMap<>(priceBands);
+        ItemResponse previous = existing != null ? items[existing] : null;
+        if (previous != null) {
+            update(nextBrands, previous.getBrand(), ordinal, false);
+            update(nextBands, PriceBand.of(previous.getPrice()), ordinal, false);
+        }
+        update(nextBrands, item.getBrand(), ordinal, true);
+        update(nextBands, PriceBand.of(item.getPrice()), ordinal, true);
+
+        BitSet nextNew = (BitSet) newItems.clone();
+        nextNew.set(ordinal, item.getIsNew());
+
+        Map<Long, BitSet> nextCategories = new HashMap<>(categories);
+        for (VirtualCategory virtual : VirtualCategory.values()) {
+            update(nextCategories, virtual.getId(), ordinal, virtual.matches(item));
+        }
+        return new FacetIndex(nextItems, nextSortedPrefix, nextOrdinals, nextAlive, nextBrands, nextBands,
+                nextCategories, nextNew);
+    }
+
+    /** 상품 하나 삭제 반영 (alive 비트만 해제, 나머지 비트는 다음 전체 재구성 때 정리) */
+    FacetIndex withoutItem(long itemId) {
+        Integer ordinal = ordinals.get(itemId);
+        if (ordinal == null) {
+            return this;
+        }
+        Map<Long, Integer> nextOrdinals = new HashMap<>(ordinals);
+        nextOrdinals.remove(itemId);
+        BitSet nextAlive = (BitSet) alive.clone();
+        nextAlive.clear(ordinal);
+        return new FacetIndex(items, sortedPrefix, nextOrdinals, nextAlive, brands, priceBands, categories, newItems);
+    }
+
+    boolean hasCategory(Long categoryId) {
+        return categories.containsKey(categoryId);
+    }
+
+    /**
+     * 패싯 필터 조회
+     * - brandFilter/bandFilter가 비어 있으면 해당 패싯은 필터하지 않음, isNew가 null이면 신상품 여부 무시
+     * - 패싯별 개수는 "그 패싯을 제외한 나머지 필터"를 적용한 상태에서 계산한다.
+     *   (브랜드 A를 골라도 다른 브랜드의 개수가 0이 되지 않도록)
+     * - 결과 상품은 item_id 오름차순으로 cursor 다음부터 최대 size + 1건 (다음 페이지 여부 확인용)
+     */
+    Result query(Long categoryId, Set<String> brandFilter, Set<PriceBand> bandFilter, Boolean isNew,
+                 Long cursor, int size) {
+        BitSet base = (BitSet) categories.getOrDefault(categoryId, new BitSet()).clone();
+        base.and(alive);
+
+        BitSet brandMask = union(brands, brandFilter);
+        BitSet bandMask = union(priceBands, bandFilter);
+        BitSet newMask = null;
+        if (isNew != null) {
+            newMask = (BitSet) newItems.clone();
+            if (!isNew) {
+                newMask.flip(0, items.length);
+            }
+        }
+
+        BitSet matched = intersect(base, brandMask, bandMask, newMask);
+
+        Map<String, Integer> brandCounts = new TreeMap<>();
+        BitSet withoutBrand = intersect(base, null, bandMask, newMask);
+        brands.forEach((brand, bits) -> {
+            int count = cardinality(withoutBrand, bits);
+            if (count > 0) {
+                brandCounts.put(brand, count);
+            }
+        });
+
+        Map<PriceBand, Integer> bandCounts = new LinkedHashMap<>();
+        BitSet withoutBand = intersect(base, brandMask, null, newMask);
+        for (PriceBand band : PriceBand.values()) {
+            BitSet bits = priceBands.get(band);
+            bandCounts.put(band, bits == null ? 0 : cardinality(withoutBand, bits));
+        }
+
+        int newCount = cardinality(intersect(base, brandMask, bandMask, null), newItems);
+
+        return new Result(page(matched, cursor, size + 1), matched.cardinality(), brandCounts, bandCounts, newCount);
+    }
+
+    // matched 중 item_id > cursor 인 상품을 id 오름차순으로 limit건
+    private List<ItemResponse> page(BitSet matched, Long cursor, int limit) {
+        List<ItemResponse> sorted = new ArrayList<>(limit);
+        for (int ordinal = matched.nextSetBit(firstOrdinalAfter(cursor));
+             ordinal >= 0 && ordinal < sortedPrefix && sorted.size() < limit;
+             ordinal = matched.nextSetBit(ordinal + 1)) {
+            sorted.add(items[ordinal]);
+        }
+        if (sortedPrefix >= items.length) {
+            return sorted;
+        }
+
+        // 순서가 어긋난 증분 추가분 (다음 전체 재구성 전까지만 존재하므로 소수)
+        List<ItemResponse> appended = new ArrayList<>();
+        for (int ordinal = matched.nextSetBit(sortedPrefix); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+            if (cursor == null || items[ordinal].getId() > cursor) {
+                appended.add(items[ordinal]);
+            }
+        }
+        if (appended.isEmpty()) {
+            return sorted;
+        }
+        sorted.addAll(appended);
+        sorted.sort(Comparator.comparing(ItemResponse::getId));
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    // 정렬 구간에서 item_id > cursor 인 첫 ordinal (이진 탐색)
+    private int firstOrdinalAfter(Long cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        int low = 0;
+        int high = sortedPrefix;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid].getId() <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 필터 값들의 비트맵 OR (필터가 비어 있으면 null = 필터 안 함)
+    private static <K> BitSet union(Map<K, BitSet> bitmaps, Set<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (K key : keys) {
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private static BitSet intersect(BitSet base, BitSet... masks) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet mask : masks) {
+            if (mask != null) {
+                result.and(mask);
+            }
+        }
+        return result;
+    }
+
+    private static int cardinality(BitSet a, BitSet b) {
+        BitSet result = (BitSet) a.clone();
+        result.and(b);
+        return result.cardinality();
+    }
+
+    // 비트맵 하나를 복사해서 비트를 바꾼 뒤 교체 (기존 인스턴스는 읽는 쪽이 계속 쓸 수 있도록 건드리지 않음)
+    private static <K> void update(Map<K, BitSet> bitmaps, K key, int ordinal, boolean value) {
+        BitSet current = bitmaps.get(key);
+        if (current == null && !value) {
+            return;
+        }
+        BitSet copy = current == null ? new BitSet() : (BitSet) current.clone();
+        copy.set(ordinal, value);
+        bitmaps.put(key, copy);
+    }
+
+    record Result(List<ItemResponse> items, int total, Map<String, Integer> brandCounts,
+                  Map<PriceBand, Integer> priceBandCounts, int newCount) {
+    }
+}
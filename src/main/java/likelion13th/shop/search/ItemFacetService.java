@@ -0,0 +1,69 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemFacetResponse;
+import likelion13th.shop.DTO.response.ItemPageResponse;
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshotChangedEvent;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.service.CategoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 상품 패싯 필터 서비스 (브랜드 / 가격대 / 신상품 여부)
+ * - 카탈로그 스냅샷 이벤트로 비트맵 색인을 유지한다. (전체 재구성 → 새로 생성, 상품 하나 변경 → 증분 반영)
+ * - 조회는 비트 연산 + 페이지 크기만큼의 비트 순회만 하므로 DB 조인 쿼리가 없다.
+ */
+@Slf4j
+@Service
+public class ItemFacetService {
+
+    private final AtomicReference<FacetIndex> index = new AtomicReference<>();
+
+    /**
+     * 카테고리 상품 패싯 필터 조회
+     * - brands / priceBands는 값끼리 OR, 패싯끼리는 AND
+     * - 색인이 아직 준비되지 않았으면 빈 결과
+     */
+    public ItemFacetResponse filter(Long categoryId, Set<String> brands, Set<PriceBand> priceBands, Boolean isNew,
+                                    Long cursor, int size) {
+        FacetIndex current = index.get();
+        if (current == null) {
+            return ItemFacetResponse.empty();
+        }
+        if (!current.hasCategory(categoryId)) {
+            throw new GeneralException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        int pageSize = Math.max(1, Math.min(size, CategoryService.MAX_PAGE_SIZE));
+
+        // item_id 오름차순으로 cursor 다음부터 pageSize + 1건 (다음 페이지 여부 확인용)
+        FacetIndex.Result result = current.query(categoryId, brands, priceBands, isNew, cursor, pageSize);
+
+        return new ItemFacetResponse(
+                ItemPageResponse.of(result.items(), pageSize),
+                result.total(),
+                result.brandCounts(),
+                result.priceBandCounts(),
+                result.newCount()
+        );
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogSnapshotChangedEvent event) {
+        FacetIndex current = index.get();
+        if (event.isFullRebuild() || current == null) {
+            index.set(FacetIndex.build(event.snapshot()));
+            log.debug("패싯 색인 재구성 - version={}", event.snapshot().getVersion());
+            return;
+        }
+        ItemResponse changed = event.snapshot().item(event.changedItemId());
+        index.set(changed == null
+                ? current.withoutItem(event.changedItemId())
+                : current.withItem(changed));
+    }
+}
@@ -0,0 +1,179 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 상품 검색용 메모리 역색인 (상품명 + 브랜드)
+ * - postings: 토큰 → (item_id → 토큰 출현 횟수)
+ * - suggestions: 자동완성 key(상품명/브랜드의 각 단어 시작 위치부터의 문자열) → 상품명
+ * - 쓰기는 카탈로그 재구성 스레드 하나에서만 일어나고(upsert/remove), 읽기는 락 없이 동시에 수행한다.
+ *   (갱신 도중 읽으면 해당 상품 하나의 점수가 잠깐 어긋날 수 있지만 결과 형식은 항상 유효)
+ */
+final class ItemSearchIndex {
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 질의 토큰 중 이 비율 이상 일치해야 결과에 포함 (n-gram 특성상 한 글자만 겹치는 잡음 제거)
+    private static final double MIN_MATCH_RATIO = 0.5;
+
+    // 자동완성 key와 item_id 구분자 (어떤 글자보다 앞에 정렬되어 접두어 범위 안에 들어감)
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, String> suggestions = new ConcurrentSkipListMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+
+    /** 상품 추가 또는 갱신 */
+    void upsert(ItemResponse item) {
+        remove(item.getId());
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        List<String> tokens = SearchTokenizer.indexTokens(item.getName() + " " + item.getBrand());
+        for (String token : tokens) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        List<String> suggestKeys = suggestKeys(item);
+
+        docs.put(item.getId(), new Doc(item, termFreqs, tokens.size(), suggestKeys));
+        termFreqs.forEach((term, tf) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(item.getId(), tf));
+        for (String key : suggestKeys) {
+            suggestions.put(key, item.getName());
+        }
+        totalLength.addAndGet(tokens.size());
+    }
+
+    /** 상품 제거 (없으면 무시) */
+    void remove(long itemId) {
+        Doc doc = docs.remove(itemId);
+        if (doc == null) {
+            return;
+        }
+        doc.termFreqs().keySet().forEach(term -> postings.computeIfPresent(term, (t, posting) -> {
+            posting.remove(itemId);
+            return posting.isEmpty() ? null : posting;
+        }));
+        doc.suggestKeys().forEach(suggestions::remove);
+        totalLength.addAndGet(-doc.length());
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    // 색인 상태 (토큰 종류 수 / 전체 토큰 수 / 자동완성 key 수) - 증분 갱신 후 전체 재구성과 같은지 점검용
+    int termCount() {
+        return postings.size();
+    }
+
+    long totalLength() {
+        return totalLength.get();
+    }
+
+    int suggestionCount() {
+        return suggestions.size();
+    }
+
+    /**
+     * BM25 점수 순 검색
+     * - filter를 통과한 상품만 점수 계산, 점수가 같으면 item_id 오름차순
+     */
+    List<ItemResponse> search(String query, Predicate<ItemResponse> filter, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.queryTokens(query));
+        int n = docs.size();
+        if (terms.isEmpty() || n == 0) {
+            return List.of();
+        }
+        double avgLength = Math.max(1.0, (double) totalLength.get() / n);
+
+        Map<Long, double[]> scores = new HashMap<>(); // [0]: 점수, [1]: 일치 토큰 수
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            int df = posting.size();
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            posting.forEach((itemId, tf) -> {
+                Doc doc = docs.get(itemId);
+                if (doc == null) {
+                    return;
+                }
+                double norm = tf + K1 * (1 - B + B * doc.length() / avgLength);
+                double[] acc = scores.computeIfAbsent(itemId, id -> new double[2]);
+                acc[0] += idf * tf * (K1 + 1) / norm;
+                acc[1]++;
+            });
+        }
+
+        double minMatches = Math.ceil(terms.size() * MIN_MATCH_RATIO);
+        List<Map.Entry<Long, double[]>> ranked = new ArrayList<>();
+        for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+            Doc doc = docs.get(entry.getKey());
+            if (doc != null && entry.getValue()[1] >= minMatches && filter.test(doc.item())) {
+                ranked.add(entry);
+            }
+        }
+        ranked.sort(Comparator.<Map.Entry<Long, double[]>>comparingDouble(e -> -e.getValue()[0])
+                .thenComparing(Map.Entry::getKey));
+
+        List<ItemResponse> results = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && results.size() < limit; i++) {
+            Doc doc = docs.get(ranked.get(i).getKey());
+            if (doc != null) {
+                results.add(doc.item());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 접두어 자동완성 (상품명, 중복 제거, 사전순)
+     * - 자동완성 key와 같은 규칙(단어 분리 후 공백 하나로 연결)으로 접두어를 만든다. ("제주  감", "제주-감" → "제주 감")
+     */
+    List<String> autocomplete(String prefix, int limit) {
+        String normalized = String.join(" ", SearchTokenizer.words(prefix));
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<String, String> range = suggestions.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : range.values()) {
+            names.add(name);
+            if (names.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    // "제주 감귤 5kg" → "제주 감귤 5kg", "감귤 5kg", "5kg" (+ 브랜드), 같은 문자열이 다른 상품과 겹치지 않도록 item_id를 붙인다.
+    private List<String> suggestKeys(ItemResponse item) {
+        List<String> keys = new ArrayList<>();
+        for (String source : new String[]{item.getName(), item.getBrand()}) {
+            List<String> words = SearchTokenizer.words(source);
+            for (int i = 0; i < words.size(); i++) {
+                keys.add(String.join(" ", words.subList(i, words.size())) + KEY_SEPARATOR + item.getId());
+            }
+        }
+        return keys;
+    }
+
+    private record Doc(ItemResponse item, Map<String, Integer> termFreqs, int length, List<String> suggestKeys) {
+    }
+}
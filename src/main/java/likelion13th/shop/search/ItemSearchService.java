@@ -0,0 +1,80 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshot;
+import likelion13th.shop.catalog.CatalogSnapshotChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * 상품 검색 서비스
+ * - 카탈로그 스냅샷(애플리케이션 시작 시 ItemRepository에서 구성)으로 역색인을 만들고,
+ *   이후 상품 하나가 바뀐 이벤트는 해당 상품만 색인에 증분 반영한다.
+ * - 전체 재구성 이벤트면 새 색인을 만들어 통째로 교체한다.
+ * - 질의는 메모리 색인만 사용하므로 DB(LIKE '%...%') 조회가 없다.
+ */
+@Slf4j
+@Service
+public class ItemSearchService {
+
+    public static final int MAX_SEARCH_SIZE = 50;
+    public static final int MAX_SUGGEST_SIZE = 20;
+
+    private final AtomicReference<ItemSearchIndex> index = new AtomicReference<>();
+
+    /**
+     * 상품 검색
+     * - brand: 일치하는 브랜드만 (대소문자/전각 무시), minPrice/maxPrice: 가격 범위 (포함)
+     * - 색인이 아직 준비되지 않았으면 빈 결과
+     */
+    public List<ItemResponse> search(String query, String brand, Integer minPrice, Integer maxPrice, int size) {
+        ItemSearchIndex current = index.get();
+        if (current == null || query == null || query.isBlank()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        return current.search(query, filter(brand, minPrice, maxPrice), limit);
+    }
+
+    /** 상품명 접두어 자동완성 */
+    public List<String> autocomplete(String prefix, int size) {
+        ItemSearchIndex current = index.get();
+        if (current == null || prefix == null) {
+            return List.of();
+        }
+        return current.autocomplete(prefix, Math.max(1, Math.min(size, MAX_SUGGEST_SIZE)));
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogSnapshotChangedEvent event) {
+        CatalogSnapshot snapshot = event.snapshot();
+        ItemSearchIndex current = index.get();
+        if (event.isFullRebuild() || current == null) {
+            long startedAt = System.currentTimeMillis();
+            ItemSearchIndex rebuilt = new ItemSearchIndex();
+            snapshot.items().forEach(rebuilt::upsert);
+            index.set(rebuilt);
+            log.info("상품 검색 색인 재구성 - items={}, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+            return;
+        }
+
+        ItemResponse changed = snapshot.item(event.changedItemId());
+        if (changed == null) {
+            current.remove(event.changedItemId());
+        } else {
+            current.upsert(changed);
+        }
+    }
+
+    private Predicate<ItemResponse> filter(String brand, Integer minPrice, Integer maxPrice) {
+        String normalizedBrand = brand == null || brand.isBlank() ? null : SearchTokenizer.normalize(brand);
+        return item -> (normalizedBrand == null || normalizedBrand.equals(SearchTokenizer.normalize(item.getBrand())))
+                && (minPrice == null || item.getPrice() >= minPrice)
+                && (maxPrice == null || item.getPrice() <= maxPrice);
+    }
+}
@@ -0,0 +1,34 @@
+package likelion13th.shop.search;
+
+import java.util.Arrays;
+
+/**
+ * 가격대 구간 (필터/패싯 집계 단위)
+ * - [min, max) 구간, max가 null이면 상한 없음
+ */
+public enum PriceBand {
+    UNDER_10000(0, 10_000),
+    FROM_10000_TO_30000(10_000, 30_000),
+    FROM_30000_TO_50000(30_000, 50_000),
+    FROM_50000_TO_100000(50_000, 100_000),
+    OVER_100000(100_000, null);
+
+    private final int min;
+    private final Integer max;
+
+    PriceBand(int min, Integer max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public boolean contains(int price) {
+        return price >= min && (max == null || price < max);
+    }
+
+    public static PriceBand of(int price) {
+        return Arrays.stream(values())
+                .filter(band -> band.contains(price))
+                .findFirst()
+                .orElse(UNDER_10000); // 음수 가격 등 비정상 값
+    }
+}
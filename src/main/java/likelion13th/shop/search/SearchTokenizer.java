@@ -0,0 +1,68 @@
+package likelion13th.shop.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * - 한글은 형태소 분석 없이도 부분 일치가 되도록 글자 단위 n-gram을 사용한다.
+ * - 정규화: NFKC(전각/반각 통일) + 소문자, 문자/숫자가 아닌 글자는 단어 구분자로 취급
+ * - 색인: 단어마다 1-gram + 2-gram
+ * - 질의: 2글자 이상 단어는 2-gram만, 1글자 단어는 1-gram 사용 (정확도 우선)
+ */
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    /** 정규화 후 단어 단위로 분리 */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /** 색인용 토큰 (1-gram + 2-gram) */
+    static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            int[] cps = word.codePoints().toArray();
+            for (int i = 0; i < cps.length; i++) {
+                tokens.add(new String(cps, i, 1));
+                if (i + 1 < cps.length) {
+                    tokens.add(new String(cps, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /** 질의용 토큰 */
+    static List<String> queryTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            int[] cps = word.codePoints().toArray();
+            if (cps.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < cps.length; i++) {
+                tokens.add(new String(cps, i, 2));
+            }
+        }
+        return tokens;
+    }
+}
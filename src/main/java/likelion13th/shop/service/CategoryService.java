@@ -1,23 +1,52 @@
 package likelion13th.shop.service;
 
+import likelion13th.shop.DTO.response.ItemPageResponse;
 import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshot;
+import likelion13th.shop.catalog.CatalogSnapshotManager;
+import likelion13th.shop.catalog.VirtualCategory;
 import likelion13th.shop.domain.Category;
-import likelion13th.shop.domain.Item;
 import likelion13th.shop.global.api.ErrorCode;
 import likelion13th.shop.global.exception.GeneralException;
 import likelion13th.shop.repository.CategoryRepository;
 import likelion13th.shop.repository.ItemRepository;
-import lombok.RequiredArgsConstructor;
+import likelion13th.shop.repository.projection.ItemSummary;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * 카테고리 상품 조회 서비스
+ * - 카탈로그 스냅샷이 준비되어 있으면 메모리에서 바로 응답 (DB 접근/트랜잭션 없음)
+ * - 스냅샷이 아직 없을 때(기동 직후)만 DB에서 조회하며, readOnly 트랜잭션으로 실행한다.
+ *   (Hibernate 세션 flush 모드가 MANUAL로 바뀌어 flush/dirty checking이 일어나지 않음)
+ */
 @Service
-@RequiredArgsConstructor
 public class CategoryService {
+    // 한 페이지 최대 상품 수 (요청 size가 더 커도 이 값으로 제한)
+    public static final int MAX_PAGE_SIZE = 50;
+    // size 미지정 시 기본 페이지 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private final CategoryRepository categoryRepository;
     private final ItemRepository itemRepository;
+    private final CatalogSnapshotManager catalogSnapshotManager;
+    private final TransactionTemplate readOnlyTx;
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           ItemRepository itemRepository,
+                           CatalogSnapshotManager catalogSnapshotManager,
+                           PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.itemRepository = itemRepository;
+        this.catalogSnapshotManager = catalogSnapshotManager;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
 
     /** 카테고리 존재 여부 확인 **/
     // 이런 식으로 검증하는 메서드를 따로 만들어서 재사용성 높일 수 있음
@@ -26,20 +55,47 @@ public class CategoryService {
                 .orElseThrow(()-> new GeneralException(ErrorCode.CATEGORY_NOT_FOUND));
     }
 
-    /** 카테고리 별 상품 목록 조회 **/
-    // DTO에 담아서 반환
-    public List<ItemResponse> getItemsByCategory(Long categoryId) {
-        if(categoryId==3){
-            return itemRepository.findAllByIsNew(true).stream()
+    /** 카테고리 별 상품 목록 조회 (커서 기반 페이지) **/
+    // cursor: 이전 페이지 마지막 item_id (첫 페이지는 null), size: 1 ~ MAX_PAGE_SIZE
+    public ItemPageResponse getItemPageByCategory(Long categoryId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        CatalogSnapshot snapshot = catalogSnapshotManager.current();
+        if (snapshot != null) {
+            if (!snapshot.hasCategory(categoryId)) {
+                throw new GeneralException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
+            return snapshot.categoryPage(categoryId, cursor, pageSize);
+        }
+        return readOnlyTx.execute(status -> getItemPageFromDb(categoryId, cursor, pageSize));
+    }
+
+    // 스냅샷 준비 전 DB 조회 경로
+    private ItemPageResponse getItemPageFromDb(Long categoryId, Long cursor, int pageSize) {
+        long after = cursor == null ? 0L : cursor;
+
+        // 가상 카테고리는 조건으로 정의되므로 전체 상품에서 걸러낸다.
+        // (스냅샷이 만들어지기 전 기동 직후에만 타는 경로)
+        Optional<VirtualCategory> virtual = VirtualCategory.of(categoryId);
+        if (virtual.isPresent()) {
+            List<ItemResponse> matched = itemRepository.findAllSummaries().stream()
                     .map(ItemResponse::from)
+                    .filter(item -> item.getId() > after && virtual.get().matches(item))
+                    .limit(pageSize + 1L)
                     .collect(Collectors.toList());
+            return ItemPageResponse.of(matched, pageSize);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ItemSummary> items = itemRepository.findPageByCategory(categoryId, after, pageSize + 1);
+        // 첫 페이지가 비어 있을 때만 카테고리 유효성 검사 (결과가 있으면 존재하는 카테고리)
+        if (items.isEmpty() && cursor == null && !categoryRepository.existsById(categoryId)) {
+            throw new GeneralException(ErrorCode.CATEGORY_NOT_FOUND);
         }
-        // 카테고리 유효성 검사
-        Category category = findCategoryById(categoryId);
 
-        List<Item> items = category.getItems();
-        return items.stream()
+        List<ItemResponse> responses = items.stream()
                 .map(ItemResponse::from)
                 .collect(Collectors.toList());
+        return ItemPageResponse.of(responses, pageSize);
     }
 }
\ No newline at end of file
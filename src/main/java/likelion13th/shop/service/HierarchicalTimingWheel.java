@@ -0,0 +1,109 @@
+package likelion13th.shop.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (단일 스레드 전용)
+ * - 가장 아래 단계는 tickMillis 간격 슬롯 wheelSize 개, 위 단계는 아래 단계 한 바퀴를 한 칸으로 하는 같은 크기의 휠
+ *   (ex. 1초 × 60 → 1분 × 60 → 1시간 × 60 ...) 필요할 때만 위 단계를 만든다.
+ * - 추가/만료 모두 항목당 O(1) (위 단계 항목은 아래 단계로 내려올 때 한 번씩 다시 배치)
+ * - due 시각을 다음 tick 경계로 올려서 배치하므로 예정보다 일찍 만료되지 않는다. (대신 최대 한 tick 늦을 수 있음)
+ * - 동기화하지 않으므로 한 스레드(OrderLifecycleEngine의 tick 스레드)에서만 사용해야 한다.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final Level<T> root;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.root = new Level<>(tickMillis, wheelSize, startMillis - startMillis % tickMillis);
+    }
+
+    /**
+     * 항목 추가
+     * - 이미 due 시각이 지났으면(휠의 현재 시각 이하) 추가하지 않고 false (호출부에서 바로 실행)
+     * - 슬롯 시작 시각은 항상 now 이하이므로, 올림한 시각이 슬롯 시작에 닿았을 때만 만료 → dueAt <= now 보장
+     */
+    boolean add(long dueAt, T value) {
+        long slotAt = -Math.floorDiv(-dueAt, root.tick) * root.tick; // tick 배수로 올림
+        return root.add(new Entry<>(slotAt, value));
+    }
+
+    /** now까지 시계를 진행하면서 만료된 항목을 expired로 넘긴다. */
+    void advance(long now, Consumer<T> expired) {
+        while (root.currentTime + root.tick <= now) {
+            root.currentTime += root.tick;
+            // 위 단계에서 이번 구간으로 내려올 항목을 먼저 내린 뒤, 현재 슬롯을 비운다.
+            cascade(root.overflow, root.currentTime, expired);
+            flush(root, expired);
+        }
+    }
+
+    private void cascade(Level<T> level, long time, Consumer<T> expired) {
+        if (level == null || time < level.currentTime + level.tick) {
+            return;
+        }
+        level.currentTime = time - time % level.tick;
+        cascade(level.overflow, level.currentTime, expired);
+        flush(level, expired);
+    }
+
+    // level의 현재 슬롯 항목을 루트부터 다시 배치 (더 이상 내려갈 곳이 없으면 만료)
+    private void flush(Level<T> level, Consumer<T> expired) {
+        List<Entry<T>> bucket = level.takeCurrentBucket();
+        for (Entry<T> entry : bucket) {
+            if (!root.add(entry)) {
+                expired.accept(entry.value());
+            }
+        }
+    }
+
+    // dueAt: tick 경계로 올림한 배치 시각
+    private record Entry<T>(long dueAt, T value) {
+    }
+
+    private static final class Level<T> {
+        private final long tick;
+        private final int size;
+        private final long interval;
+        private final List<List<Entry<T>>> buckets;
+        private long currentTime; // 현재 슬롯 시작 시각 (tick의 배수)
+        private Level<T> overflow;
+
+        Level(long tick, int size, long currentTime) {
+            this.tick = tick;
+            this.size = size;
+            this.interval = tick * size;
+            this.currentTime = currentTime;
+            this.buckets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        boolean add(Entry<T> entry) {
+            if (entry.dueAt() < currentTime + tick) {
+                return false;
+            }
+            if (entry.dueAt() < currentTime + interval) {
+                buckets.get((int) ((entry.dueAt() / tick) % size)).add(entry);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, size, currentTime - currentTime % interval);
+            }
+            return overflow.add(entry);
+        }
+
+        List<Entry<T>> takeCurrentBucket() {
+            int index = (int) ((currentTime / tick) % size);
+            List<Entry<T>> bucket = buckets.get(index);
+            if (bucket.isEmpty()) {
+                return List.of();
+            }
+            buckets.set(index, new ArrayList<>());
+            return bucket;
+        }
+    }
+}
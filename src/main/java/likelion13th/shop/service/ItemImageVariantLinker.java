@@ -0,0 +1,126 @@
+package likelion13th.shop.service;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import likelion13th.shop.S3.ImageVariantService;
+import likelion13th.shop.S3.ImageVariantsCreatedEvent;
+import likelion13th.shop.S3.S3Properties;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 이미지 ↔ 리사이즈 변형(ImageVariant) 연결
+ * - 상품은 업로드 API가 돌려준 원본 URL을 imagePath로 저장하므로, 변형이 모두 있는 URL을 쓰는 상품만 imageVariants=true로 바꾼다.
+ *   (true가 되어야 목록/상세 응답이 원본 대신 변형 URL을 내려준다)
+ * - 업로드 직후: ImageVariantsCreatedEvent의 URL을 이미 쓰고 있는 상품을 바로 갱신 (중복 제거 업로드로 같은 URL을 다시 받은 경우)
+ * - 주기 점검: 업로드 이후에 등록/수정된 상품은 이벤트 시점에 없으므로, 아직 false인 상품 중
+ *   이 버킷의 이미지를 쓰는 상품의 변형 객체를 HEAD로 확인해 갱신한다.
+ * - 엔티티 변경으로 갱신하므로 CatalogChangeListener가 커밋 후 카탈로그 스냅샷에 반영한다.
+ * - 주기 점검은 임대(LEASE_NAME)를 가진 노드 하나만 실행한다. (true로 바꾸는 것뿐이라 중복 실행돼도 결과가 같아 토큰 조건은 생략)
+ */
+@Slf4j
+@Component
+public class ItemImageVariantLinker {
+
+    static final String LEASE_NAME = "item-image-variant-link";
+
+    private final ItemRepository itemRepository;
+    private final ImageVariantService imageVariantService;
+    private final LeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucketUrlPrefix;
+
+    public ItemImageVariantLinker(ItemRepository itemRepository,
+                                  ImageVariantService imageVariantService,
+                                  LeaseManager leaseManager,
+                                  PlatformTransactionManager transactionManager,
+                                  AmazonS3 amazonS3,
+                                  S3Properties s3Properties) {
+        this.itemRepository = itemRepository;
+        this.imageVariantService = imageVariantService;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 업로드 응답 URL과 같은 규칙으로 만든 버킷 URL 접두사 (이 접두사 뒤가 URL 인코딩된 object key)
+        String sample = amazonS3.getUrl(s3Properties.getBucket(), "_").toString();
+        this.bucketUrlPrefix = sample.substring(0, sample.length() - 1);
+    }
+
+    @EventListener
+    public void onVariantsCreated(ImageVariantsCreatedEvent event) {
+        int linked = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (Item item : itemRepository.findByImagePathIn(event.imageUrls())) {
+                if (!item.isImageVariants()) {
+                    item.markImageVariants();
+                    count++;
+                }
+            }
+            return count;
+        });
+        if (linked > 0) {
+            log.info("상품 변형 이미지 연결 (업로드) - {}건", linked);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${IMAGE_VARIANT_LINK_INTERVAL_MILLIS:600000}")
+    public void reconcile() {
+        if (!leaseManager.runIfLeader(LEASE_NAME, token -> linkExisting())) {
+            log.debug("상품 변형 이미지 연결 점검 - 다른 노드가 리더라 건너뜀");
+        }
+    }
+
+    /** 아직 연결되지 않은 상품 중 변형 객체가 모두 있는 상품을 갱신하고 갱신 건수 반환 */
+    public int linkExisting() {
+        // item_id → 확인한 imagePath (HEAD는 트랜잭션 밖에서 수행)
+        Map<Long, String> verified = new HashMap<>();
+        try {
+            for (Item item : itemRepository.findByImageVariantsFalse()) {
+                String key = keyOf(item.getImagePath());
+                if (key != null && imageVariantService.hasAllVariants(key)) {
+                    verified.put(item.getId(), item.getImagePath());
+                }
+            }
+        } catch (AmazonClientException e) {
+            log.error("상품 변형 이미지 연결 점검 실패 - 확인된 {}건만 반영", verified.size(), e);
+        }
+        if (verified.isEmpty()) {
+            return 0;
+        }
+
+        int linked = transactionTemplate.execute(status -> {
+            int count = 0;
+            List<Item> items = itemRepository.findAllById(verified.keySet());
+            for (Item item : items) {
+                // 확인하는 사이 이미지가 바뀐 상품은 다음 점검에서 다시 확인
+                if (!item.isImageVariants() && item.getImagePath().equals(verified.get(item.getId()))) {
+                    item.markImageVariants();
+                    count++;
+                }
+            }
+            return count;
+        });
+        log.info("상품 변형 이미지 연결 점검 완료 - {}건", linked);
+        return linked;
+    }
+
+    // 이 버킷의 업로드 URL이면 object key, 외부 이미지면 null
+    private String keyOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(bucketUrlPrefix)) {
+            return null;
+        }
+        return URLDecoder.decode(imageUrl.substring(bucketUrlPrefix.length()), StandardCharsets.UTF_8);
+    }
+}
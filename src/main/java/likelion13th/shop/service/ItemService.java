@@ -0,0 +1,134 @@
+package likelion13th.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshotChangedEvent;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 단건/다건 조회 서비스 (near-cache)
+ * - item_id → ItemResponse 캐시 (최대 크기 + 쓰기 후 만료)
+ * - 없는 상품은 별도의 작은 캐시(missing)에 짧게만 기억해 반복 조회를 막는다.
+ *   (같은 캐시에 두면 임의 id 요청이 쌓여 인기 상품 항목을 밀어낼 수 있음)
+ * - 같은 id에 대한 동시 miss는 Caffeine이 하나의 로딩으로 합쳐 준다. (single-flight → 인기 상품 링크가 퍼져도 DB 조회 1회)
+ * - 다건 조회는 캐시에 없는 id만 모아 IN 쿼리 한 번으로 채운다.
+ * - 상품이 바뀌면 카탈로그 스냅샷 이벤트로 해당 id를 무효화한다. (전체 재구성이면 전체 무효화, 없는 상품 기록 포함)
+ */
+@Slf4j
+@Service
+public class ItemService {
+
+    // 다건 조회 시 한 번에 요청할 수 있는 최대 id 수
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final ItemRepository itemRepository;
+    // 없는 상품이면 loader가 null을 돌려 항목이 만들어지지 않는다.
+    private final LoadingCache<Long, ItemResponse> cache;
+    private final Cache<Long, Boolean> missing;
+
+    // 실제 DB 조회 횟수 (캐시/합치기 효과 확인용)
+    private final LongAdder dbLoads = new LongAdder();
+
+    public ItemService(ItemRepository itemRepository,
+                       @Value("${ITEM_CACHE_MAX_SIZE:10000}") long maxSize,
+                       @Value("${ITEM_CACHE_TTL_SECONDS:300}") long ttlSeconds,
+                       @Value("${ITEM_CACHE_MISSING_MAX_SIZE:10000}") long missingMaxSize,
+                       @Value("${ITEM_CACHE_MISSING_TTL_SECONDS:10}") long missingTtlSeconds) {
+        this.itemRepository = itemRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ItemResponse load(Long itemId) {
+                        dbLoads.increment();
+                        return itemRepository.findSummaryById(itemId).map(ItemResponse::from).orElse(null);
+                    }
+
+                    @Override
+                    public Map<Long, ItemResponse> loadAll(Set<? extends Long> itemIds) {
+                        dbLoads.increment();
+                        Map<Long, ItemResponse> loaded = new HashMap<>();
+                        itemRepository.findSummariesByIdIn(itemIds).stream()
+                                .map(ItemResponse::from)
+                                .forEach(item -> loaded.put(item.getId(), item));
+                        return loaded;
+                    }
+                });
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(missingMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(missingTtlSeconds))
+                .build();
+    }
+
+    /** 상품 단건 조회 **/
+    public ItemResponse getItem(Long itemId) {
+        if (missing.getIfPresent(itemId) != null) {
+            throw new GeneralException(ErrorCode.ITEM_NOT_FOUND);
+        }
+        ItemResponse item = cache.get(itemId);
+        if (item == null) {
+            missing.put(itemId, Boolean.TRUE);
+            throw new GeneralException(ErrorCode.ITEM_NOT_FOUND);
+        }
+        return item;
+    }
+
+    /**
+     * 상품 다건 조회
+     * - 요청한 id 순서대로 반환, 존재하지 않는 id는 제외
+     */
+    public List<ItemResponse> getItems(List<Long> itemIds) {
+        Set<Long> ids = new LinkedHashSet<>(itemIds);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST);
+        }
+        Set<Long> lookup = new LinkedHashSet<>(ids);
+        lookup.removeAll(missing.getAllPresent(ids).keySet());
+        Map<Long, ItemResponse> found = cache.getAll(lookup);
+        List<ItemResponse> items = new ArrayList<>(ids.size());
+        for (Long id : lookup) {
+            ItemResponse item = found.get(id);
+            if (item == null) {
+                missing.put(id, Boolean.TRUE);
+            } else {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    public long getDbLoadCount() {
+        return dbLoads.sum();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogSnapshotChangedEvent event) {
+        if (event.isFullRebuild()) {
+            cache.invalidateAll();
+            missing.invalidateAll();
+            log.debug("상품 캐시 전체 무효화 - catalog version={}, db loads={}", event.snapshot().getVersion(), dbLoads.sum());
+            return;
+        }
+        cache.invalidate(event.changedItemId());
+        missing.invalidate(event.changedItemId());
+    }
+}
@@ -0,0 +1,87 @@
+package likelion13th.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import likelion13th.shop.repository.MileageLedgerRepository;
+import likelion13th.shop.repository.projection.MileageBalance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * userId → 마일리지 잔액 캐시
+ * - 잔액(압축 스냅샷 + 원장 꼬리 합계)은 원장에 항목이 추가될 때만 바뀌므로,
+ *   반복 조회(/users/mileage, 결제창)는 SUM 쿼리 없이 캐시에서 응답한다.
+ * - 원장 INSERT는 모두 MileageService를 거치므로 거기서 무효화한다.
+ *   커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로, 커밋 이후에 한 번 더 지운다.
+ * - 압축(MileageCompactor)은 잔액을 바꾸지 않으므로 무효화하지 않는다.
+ * - 다른 노드에서 추가된 원장 항목은 쓰기 후 만료(ttl)까지 반영되지 않는다. (표시용 값,
+ *   실제 차감은 DB 조건부 INSERT가 잔액을 다시 확인하므로 음수 잔액은 생기지 않음)
+ */
+@Slf4j
+@Component
+public class MileageBalanceCache {
+
+    private final MileageLedgerRepository mileageLedgerRepository;
+    private final Cache<Long, MileageBalance> cache;
+
+    public MileageBalanceCache(MileageLedgerRepository mileageLedgerRepository,
+                               @Value("${MILEAGE_CACHE_MAX_SIZE:10000}") long maxSize,
+                               @Value("${MILEAGE_CACHE_TTL_SECONDS:30}") long ttlSeconds) {
+        this.mileageLedgerRepository = mileageLedgerRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * userId로 잔액 조회
+     * - 캐시에 없으면 DB에서 계산해 채운다. (존재하지 않는 사용자는 캐싱하지 않음)
+     */
+    public Optional<MileageBalance> get(Long userId) {
+        MileageBalance cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return mileageLedgerRepository.findBalance(userId)
+                .map(balance -> {
+                    MileageBalance snapshot = new Snapshot(balance.getMileage(), balance.getPurchaseTotal());
+                    cache.put(userId, snapshot);
+                    return snapshot;
+                });
+    }
+
+    /** 원장 항목 추가 시 무효화 (지금 + 커밋 이후) */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+        log.debug("마일리지 잔액 캐시 무효화 (user_id={})", userId);
+    }
+
+    // 조회 결과 복사본 (네이티브 쿼리 projection은 결과 행에 묶여 있으므로 값만 보관)
+    private record Snapshot(Integer mileage, Integer purchaseTotal) implements MileageBalance {
+
+        @Override
+        public Integer getMileage() {
+            return mileage;
+        }
+
+        @Override
+        public Integer getPurchaseTotal() {
+            return purchaseTotal;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.repository.MileageLedgerRepository;
+import likelion13th.shop.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마일리지 원장 압축 작업
+ * - graceMillis 이전에 기록된 원장 항목을 사용자별로 합쳐 users 스냅샷(max_mileage, recent_total)에 더하고
+ *   mileage_watermark를 옮긴다. → 잔액 조회 시 읽는 원장 꼬리가 짧게 유지됨
+ * - 압축 전후로 "스냅샷 + 꼬리 합계"는 같으므로, 압축은 잔액 결과에 영향 없는 최적화일 뿐이다.
+ * - grace: entry_id는 INSERT 시점에 정해지므로, 아직 커밋되지 않은 작은 id 항목을 건너뛰지 않도록
+ *   충분히 지난 항목까지만 압축한다. (주문 트랜잭션은 grace보다 훨씬 짧다는 가정)
+ * - 사용자 batchSize 명씩 별도 트랜잭션으로 처리한다.
+ * - 여러 인스턴스 중 임대(LEASE_NAME)를 가진 노드 하나만 실행한다.
+ *   (압축 UPDATE는 워터마크 조건으로 중복 실행돼도 결과가 같아 토큰 조건은 생략)
+ */
+@Slf4j
+@Component
+public class MileageCompactor {
+
+    static final String LEASE_NAME = "mileage-compact";
+
+    private final MileageLedgerRepository mileageLedgerRepository;
+    private final UserRepository userRepository;
+    private final LeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long graceMillis;
+
+    // 이 노드에서 마지막으로 압축을 끝낸 원장 위치 (-1: 아직 모름 → 첫 실행 때 users에서 읽음)
+    private final AtomicLong compactedThrough = new AtomicLong(-1);
+    // 실행 통계 (직전 실행 압축 사용자 수, 누적)
+    private final AtomicLong lastCompactedUsers = new AtomicLong();
+    private final AtomicLong totalCompactedUsers = new AtomicLong();
+
+    public MileageCompactor(MileageLedgerRepository mileageLedgerRepository,
+                            UserRepository userRepository,
+                            LeaseManager leaseManager,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${MILEAGE_COMPACT_BATCH_SIZE:500}") int batchSize,
+                            @Value("${MILEAGE_COMPACT_GRACE_MILLIS:600000}") long graceMillis) {
+        this.mileageLedgerRepository = mileageLedgerRepository;
+        this.userRepository = userRepository;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.graceMillis = graceMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${MILEAGE_COMPACT_INTERVAL_MILLIS:600000}")
+    public void compact() {
+        if (!leaseManager.runIfLeader(LEASE_NAME, this::compactLedger)) {
+            log.debug("마일리지 원장 압축 - 다른 노드가 리더라 건너뜀");
+        }
+    }
+
+    private void compactLedger(long fencingToken) {
+        long startedAt = System.currentTimeMillis();
+        Long upTo = mileageLedgerRepository.findMaxIdBefore(LocalDateTime.now().minus(Duration.ofMillis(graceMillis)));
+        if (compactedThrough.get() < 0) {
+            // 중간에 끊긴 실행이 있었다면 일부 사용자는 덜 압축된 채 남지만, 잔액 계산은 그대로 정확하다.
+            compactedThrough.set(userRepository.findMaxMileageWatermark());
+        }
+        long from = compactedThrough.get();
+        if (upTo == null || upTo <= from) {
+            log.debug("마일리지 원장 압축 - 대상 없음");
+            return;
+        }
+
+        long users = 0;
+        long afterUserId = 0;
+        while (true) {
+            List<Long> userIds = mileageLedgerRepository.findUserIdsInRange(
+                    from, upTo, afterUserId, PageRequest.of(0, batchSize));
+            if (!userIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> mileageLedgerRepository.compact(userIds, upTo));
+                users += userIds.size();
+                afterUserId = userIds.get(userIds.size() - 1);
+            }
+            // 마지막 묶음이면 구간 완료
+            if (userIds.size() < batchSize) {
+                compactedThrough.set(upTo);
+                break;
+            }
+            // 도중에 임대를 잃었으면 새 리더에게 넘긴다. (구간 시작점은 그대로 → 다음 실행에서 이어서 처리)
+            if (!leaseManager.isCurrent(LEASE_NAME, fencingToken)) {
+                break;
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        lastCompactedUsers.set(users);
+        totalCompactedUsers.addAndGet(users);
+        log.info("마일리지 원장 압축 - 사용자 {}명, 원장 ~{}, 소요 {}ms", users, upTo, elapsed);
+    }
+
+    public long getLastCompactedUsers() {
+        return lastCompactedUsers.get();
+    }
+
+    public long getTotalCompactedUsers() {
+        return totalCompactedUsers.get();
+    }
+}
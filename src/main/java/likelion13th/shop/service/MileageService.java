@@ -0,0 +1,109 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.domain.MileageLedger;
+import likelion13th.shop.domain.Order;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.constant.MileageEntryType;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.repository.MileageLedgerRepository;
+import likelion13th.shop.repository.projection.MileageBalance;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 원장 기반 적립/사용/환불
+ * - 주문/취소는 users 행을 고치지 않고 mileage_ledger에 항목을 INSERT만 한다.
+ *   → 같은 사용자의 동시 주문이 서로의 갱신을 덮어쓰지 않고, 적립/환불끼리는 잠금 경쟁도 없음
+ * - 잔액을 줄이는 항목(사용, 적립분 회수)만 조건부 INSERT로 넣는다. ("잔액 >= 필요 금액"일 때만 삽입)
+ *   사용자 행은 잠그지 않고, 사용자별 차감 순번(debit_seq) 유니크로 동시 차감 중 하나만 통과시킨다.
+ *   → 음수 잔액 불가, 진 쪽은 MILEAGE_CONFLICT (트랜잭션이 롤백되므로 클라이언트가 다시 요청)
+ * - 잔액 = users 압축 스냅샷 + 원장 꼬리 합계 (MileageCompactor가 주기적으로 꼬리를 스냅샷에 합침)
+ *   조회 결과는 MileageBalanceCache에 두고, 원장에 항목을 추가할 때 무효화한다.
+ * - 호출자의 트랜잭션 안에서 실행된다. (주문 저장과 원장 기록이 함께 커밋/롤백)
+ * - 같은 주문에 같은 종류의 항목이 이미 있으면((order_id, type) 유니크 위반) 중복 취소로 보고 ORDER_CANCEL_FAILED
+ */
+@Service
+@RequiredArgsConstructor
+public class MileageService {
+    // 결제 금액 대비 적립률
+    private static final double EARN_RATE = 0.1;
+
+    private final MileageLedgerRepository mileageLedgerRepository;
+    private final MileageBalanceCache mileageBalanceCache;
+
+    /** 현재 잔액 (마일리지, 최근 총 구매액) - 캐시에 없을 때만 SUM 쿼리 **/
+    public MileageBalance getBalance(Long userId) {
+        return mileageBalanceCache.get(userId)
+                .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 주문 결제 반영
+     * - requested: 사용 요청 마일리지 (보유 잔액보다 많으면 INVALID_MILEAGE)
+     * - 실제 사용분(총 금액 - 결제 금액)을 차감하고 결제 금액의 10%를 적립, 구매액에 결제 금액 추가
+     */
+    public void applyOrder(Order order, int requested) {
+        Long userId = order.getUser().getId();
+        int used = order.getTotalPrice() - order.getFinalPrice();
+        if (requested < 0) {
+            throw new GeneralException(ErrorCode.INVALID_MILEAGE);
+        }
+        mileageBalanceCache.evict(userId);
+        if (requested > 0) {
+            debit(userId, order.getId(), MileageEntryType.SPEND, used, 0, requested);
+        }
+        mileageLedgerRepository.save(MileageLedger.create(userId, order.getId(), MileageEntryType.EARN,
+                earnedMileage(order), order.getFinalPrice()));
+    }
+
+    /**
+     * 주문 취소 반영
+     * - 결제 시 적립분 회수 (보유 잔액이 적립분보다 적으면 INVALID_MILEAGE) + 구매액에서 결제 금액 차감
+     * - 결제 시 사용한 마일리지 환불
+     */
+    public void revertOrder(Order order) {
+        Long userId = order.getUser().getId();
+        int earned = earnedMileage(order);
+        mileageBalanceCache.evict(userId);
+        debit(userId, order.getId(), MileageEntryType.REVOKE, earned, -order.getFinalPrice(), earned);
+
+        int used = order.getTotalPrice() - order.getFinalPrice();
+        if (used > 0) {
+            mileageLedgerRepository.save(MileageLedger.create(userId, order.getId(), MileageEntryType.REFUND, used, 0));
+        }
+    }
+
+    // 조건부 차감 (잔액 >= required 일 때만 -amount 항목 추가)
+    private void debit(Long userId, Long orderId, MileageEntryType type, int amount, int purchaseDelta, int required) {
+        int inserted;
+        try {
+            inserted = mileageLedgerRepository.insertIfBalanceAtLeast(
+                    userId, orderId, type.name(), -amount, purchaseDelta, required, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            if (isDebitSeqConflict(e)) {
+                // 같은 사용자의 다른 차감이 같은 잔액을 보고 먼저 들어간 경우
+                throw new GeneralException(ErrorCode.MILEAGE_CONFLICT);
+            }
+            // 동시에 들어온 같은 주문의 취소가 먼저 회수 항목을 넣은 경우
+            throw new GeneralException(ErrorCode.ORDER_CANCEL_FAILED);
+        }
+        if (inserted == 0) {
+            throw new GeneralException(ErrorCode.INVALID_MILEAGE);
+        }
+    }
+
+    // DB마다 제약 이름의 대소문자/접미사가 달라 포함 여부로 비교
+    private static boolean isDebitSeqConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cause
+                && cause.getConstraintName() != null
+                && cause.getConstraintName().toLowerCase().contains(MileageLedger.UK_USER_DEBIT_SEQ);
+    }
+
+    private static int earnedMileage(Order order) {
+        return (int) (order.getFinalPrice() * EARN_RATE);
+    }
+}
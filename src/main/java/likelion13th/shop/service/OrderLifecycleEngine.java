@@ -0,0 +1,269 @@
+package likelion13th.shop.service;
+
+import jakarta.annotation.PreDestroy;
+import likelion13th.shop.domain.Order;
+import likelion13th.shop.domain.OrderTransition;
+import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.repository.OrderRepository;
+import likelion13th.shop.repository.OrderTransitionRepository;
+import likelion13th.shop.repository.projection.PendingOrder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 상태 전이 엔진 (예약 큐 + 계층형 타이밍 휠)
+ * - 주문 생성 시 "completeDelay 후 PROCESSING → COMPLETE" 예약을 order_transition 테이블에 저장하고(같은 트랜잭션),
+ *   커밋되면 메모리 타이밍 휠에 올린다.
+ * - tick 스레드가 tickMillis마다 휠을 진행시키고, 시각이 된 전이만 모아 조건부 UPDATE 한 번으로 실행한 뒤 예약 행을 삭제한다.
+ *   (그 사이 취소된 주문은 현재 상태가 달라 변경되지 않음)
+ * - 각 노드는 자기가 만든 예약만 휠에 올려 실행한다.
+ * - DB에 남은 예약(재시작/장애로 휠에서 사라진 예약)은 임대(LEASE_NAME)를 가진 노드 하나만 복구한다.
+ *   리더가 새로 될 때마다(새 fencing token) 한 번 모두 다시 휠에 올리고(지난 예약은 바로 실행),
+ *   엔진 도입 이전에 만들어진 진행 중 주문은 예약을 새로 만들어 준다. (order_id + 전이 종류 유니크 → 중복 생성 불가)
+ * - 복구한 예약은 UPDATE/DELETE에 fencing token 조건을 건다. 도중에 임대를 잃으면 실행되지 않고 남아 새 리더가 복구한다.
+ * - 전이 종류는 (fromStatus, toStatus)로 구분하므로 배송 단계 등 새 전이는 예약만 추가하면 된다.
+ */
+@Slf4j
+@Component
+public class OrderLifecycleEngine {
+
+    static final String LEASE_NAME = "order-lifecycle-recover";
+
+    // 실행 실패 시 재시도 간격
+    private static final long RETRY_DELAY_MILLIS = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final OrderTransitionRepository orderTransitionRepository;
+    private final LeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final long completeDelayMillis;
+
+    private final Queue<DueTransition> inbox = new ConcurrentLinkedQueue<>();
+    private final HierarchicalTimingWheel<DueTransition> wheel;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "order-lifecycle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 실행 통계 (실행된 전이 수 / 실제 상태가 바뀐 주문 수 / 복구한 예약 수)
+    private final AtomicLong fired = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    // 마지막으로 복구를 실행한 fencing token (-1: 아직 리더가 된 적 없음)
+    private final AtomicLong recoveredToken = new AtomicLong(-1);
+
+    public OrderLifecycleEngine(OrderRepository orderRepository,
+                                OrderTransitionRepository orderTransitionRepository,
+                                LeaseManager leaseManager,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${ORDER_WHEEL_TICK_MILLIS:1000}") long tickMillis,
+                                @Value("${ORDER_WHEEL_SIZE:60}") int wheelSize,
+                                @Value("${ORDER_COMPLETE_DELAY_MILLIS:60000}") long completeDelayMillis) {
+        this.orderRepository = orderRepository;
+        this.orderTransitionRepository = orderTransitionRepository;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tickMillis = tickMillis;
+        this.completeDelayMillis = completeDelayMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 새 주문의 완료 전이 예약
+     * - 호출한 트랜잭션 안에서 예약 행을 저장하고, 커밋된 뒤에 휠에 올린다. (롤백되면 아무 일도 없음)
+     */
+    public void scheduleCompletion(Order order) {
+        OrderTransition transition = orderTransitionRepository.save(OrderTransition.create(
+                order.getId(), OrderStatus.PROCESSING, OrderStatus.COMPLETE,
+                System.currentTimeMillis() + completeDelayMillis));
+        DueTransition due = DueTransition.from(transition, null);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inbox.add(due);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inbox.add(due);
+            }
+        });
+    }
+
+    /** 주문 취소 등으로 남은 예약 제거 (휠에 남은 항목은 실행 시 대상 행이 없어 무시됨) */
+    public void cancelTransitions(Long orderId) {
+        orderTransitionRepository.deleteByOrderId(orderId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        claimRecovery();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 복구 임대 확인 (기동 시 + 주기적으로)
+     * - 임대를 새로 가져온 경우(이전과 다른 token)에만 DB에 남은 예약을 복구한다.
+     *   → 리더 노드가 죽으면 다음 리더가 그 노드의 예약까지 이어받는다.
+     */
+    @Scheduled(fixedDelayString = "${ORDER_RECOVER_CHECK_MILLIS:30000}")
+    public void claimRecovery() {
+        try {
+            leaseManager.runIfLeader(LEASE_NAME, token -> {
+                if (recoveredToken.get() != token) {
+                    recover(token);
+                    recoveredToken.set(token);
+                }
+            });
+        } catch (Exception e) {
+            log.error("주문 상태 전이 예약 복구 실패 - 다음 확인 또는 보정 작업에서 처리", e);
+        }
+    }
+
+    public long getFiredCount() {
+        return fired.get();
+    }
+
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    public long getRecoveredCount() {
+        return recovered.get();
+    }
+
+    // DB에 남은 예약을 휠에 다시 올림 (+ 예약 없는 진행 중 주문 보정), 리더 노드에서만 실행
+    private void recover(long fencingToken) {
+        List<PendingOrder> missing = orderRepository.findWithoutTransition(OrderStatus.PROCESSING);
+        if (!missing.isEmpty()) {
+            List<OrderTransition> created = missing.stream()
+                    .map(order -> OrderTransition.create(order.getOrderId(), OrderStatus.PROCESSING, OrderStatus.COMPLETE,
+                            toEpochMillis(order.getCreatedAt()) + completeDelayMillis))
+                    .toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> orderTransitionRepository.saveAll(created));
+                log.info("예약 없는 진행 중 주문 {}건에 완료 전이 예약 생성", created.size());
+            } catch (DataIntegrityViolationException e) {
+                // 리더가 바뀌는 사이 이전 리더가 먼저 만든 경우 → 이미 있는 예약을 그대로 복구
+                log.warn("완료 전이 예약이 이미 생성됨 - 기존 예약으로 복구", e);
+            }
+        }
+
+        List<OrderTransition> pending = orderTransitionRepository.findAll();
+        pending.forEach(transition -> inbox.add(DueTransition.from(transition, fencingToken)));
+        recovered.addAndGet(pending.size());
+        log.info("주문 상태 전이 예약 {}건 복구 (token={})", pending.size(), fencingToken);
+    }
+
+    // tick 스레드 전용: 새 예약 반영 → 시계 진행 → 만료된 전이 실행
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            List<DueTransition> due = new ArrayList<>();
+            DueTransition next;
+            while ((next = inbox.poll()) != null) {
+                if (!wheel.add(next.dueAt(), next)) {
+                    due.add(next);
+                }
+            }
+            wheel.advance(now, due::add);
+            if (!due.isEmpty()) {
+                fire(due);
+            }
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 이후 tick이 모두 취소되므로 여기서 막는다.
+            log.error("주문 상태 전이 tick 처리 실패", e);
+        }
+    }
+
+    // (from, to, 복구 token)별로 묶어 조건부 UPDATE 한 번 + 예약 행 삭제를 한 트랜잭션으로 실행
+    private void fire(List<DueTransition> due) {
+        Map<GroupKey, List<DueTransition>> groups = new LinkedHashMap<>();
+        for (DueTransition transition : due) {
+            groups.computeIfAbsent(new GroupKey(transition.from(), transition.to(), transition.fencingToken()),
+                    k -> new ArrayList<>()).add(transition);
+        }
+
+        groups.forEach((key, transitions) -> {
+            // 복구한 예약인데 이미 임대를 잃었으면 새 리더가 다시 복구하므로 버린다.
+            if (key.fencingToken() != null && !leaseManager.isCurrent(LEASE_NAME, key.fencingToken())) {
+                log.info("복구 임대를 잃어 예약 {}건 실행 생략 - 새 리더가 처리", transitions.size());
+                return;
+            }
+            List<Long> orderIds = transitions.stream().map(DueTransition::orderId).toList();
+            List<Long> transitionIds = transitions.stream().map(DueTransition::id).toList();
+            try {
+                Integer changed = transactionTemplate.execute(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    if (key.fencingToken() == null) {
+                        int updated = orderRepository.transitionStatus(orderIds, key.from(), key.to(), now);
+                        orderTransitionRepository.deleteByIds(transitionIds);
+                        return updated;
+                    }
+                    int updated = orderRepository.transitionStatusFenced(orderIds, key.from().name(), key.to().name(),
+                            now, LEASE_NAME, key.fencingToken());
+                    orderTransitionRepository.deleteByIdsFenced(transitionIds, LEASE_NAME, key.fencingToken());
+                    return updated;
+                });
+                fired.addAndGet(transitions.size());
+                applied.addAndGet(changed == null ? 0 : changed);
+                log.debug("주문 상태 전이 {} → {} - 예약 {}건, 변경 {}건", key.from(), key.to(), transitions.size(), changed);
+            } catch (Exception e) {
+                log.error("주문 상태 전이 실행 실패 - {}건 {}ms 후 재시도", transitions.size(), RETRY_DELAY_MILLIS, e);
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+                transitions.forEach(t -> inbox.add(t.withDueAt(retryAt)));
+            }
+        });
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        ticker.shutdown();
+        ticker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // fencingToken: 리더로서 DB에서 복구한 예약이면 그때의 token, 이 노드가 직접 만든 예약이면 null
+    private record DueTransition(Long id, Long orderId, OrderStatus from, OrderStatus to, long dueAt, Long fencingToken) {
+
+        static DueTransition from(OrderTransition transition, Long fencingToken) {
+            return new DueTransition(transition.getId(), transition.getOrderId(),
+                    transition.getFromStatus(), transition.getToStatus(), transition.getDueAt(), fencingToken);
+        }
+
+        DueTransition withDueAt(long dueAt) {
+            return new DueTransition(id, orderId, from, to, dueAt, fencingToken);
+        }
+    }
+
+    private record GroupKey(OrderStatus from, OrderStatus to, Long fencingToken) {
+    }
+}
@@ -2,6 +2,7 @@ package likelion13th.shop.service;
 
 import jakarta.transaction.Transactional;
 import likelion13th.shop.DTO.request.OrderCreateRequest;
+import likelion13th.shop.DTO.response.OrderPageResponse;
 import likelion13th.shop.DTO.response.OrderResponse;
 import likelion13th.shop.domain.Item;
 import likelion13th.shop.domain.Order;
@@ -13,116 +14,138 @@ import likelion13th.shop.login.auth.jwt.CustomUserDetails;
 import likelion13th.shop.login.service.UserService;
 import likelion13th.shop.repository.ItemRepository;
 import likelion13th.shop.repository.OrderRepository;
+import likelion13th.shop.repository.projection.OrderSummary;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
+    // 주문 목록 한 페이지 최대 건수
+    public static final int MAX_PAGE_SIZE = 50;
+
     private final OrderRepository orderRepository;
     private final ItemRepository itemRepository;
     private final UserService userService;
+    private final OrderLifecycleEngine orderLifecycleEngine;
+    private final MileageService mileageService;
 
     /** 주문 생성 **/
     @Transactional
     public OrderResponse createOrder(OrderCreateRequest request, CustomUserDetails customUserDetails) {
-        // 사용자 조회
-        User user = userService.getAuthenticatedUser(customUserDetails.getProviderId());
+        // 사용자 참조 (토큰의 user_id로 프록시만 생성, 주문의 FK로만 쓰므로 SELECT 없음)
+        User user = userService.getAuthenticatedUserReference(customUserDetails);
         // 상품 조회
         Item item = itemRepository.findById(request.getItemId())
                 .orElseThrow(() -> new GeneralException(ErrorCode.ITEM_NOT_FOUND));
 
         // 총 금액 계산
         int totalPrice = item.getPrice() * request.getQuantity();
-        // 마일리지 유효성 검사
-        int mileageToUse = request.getMileageToUse();
-        if (mileageToUse > user.getMaxMileage()) {
-            throw new GeneralException(ErrorCode.INVALID_MILEAGE);
-        }
         // 논리 오류가 있엇서용...
         // 사용할 수 있는 최대 마일리지 = 총 금액
+        int mileageToUse = request.getMileageToUse();
         int availableMileage = Math.min(mileageToUse, totalPrice);
         // 최종 결제 금액 계산
         int finalPrice = totalPrice - availableMileage;
 
-        //주문 생성 ( 주문 중으로 설정은 Order.java 생성자에서 )
+        //주문 생성 ( 주문 중으로 설정은 Order.java 생성자에서, 사용자 연관관계도 함께 설정 )
+        // - user.addOrder는 프록시를 초기화(SELECT)하고 이 트랜잭션에서 user.orders를 읽지도 않으므로 호출하지 않는다.
         Order order = Order.create(user, item, request.getQuantity(), totalPrice, finalPrice);
 
-
-        //사용자 마일리지 차감 및 적립
-        user.useMileage(availableMileage);
-        user.addMileage((int) (finalPrice * 0.1));//결제 금액의 10% 마일리지 적립
-        //최근 결제 금액 업데이트
-        user.updateRecentTotal(finalPrice);
-
-        //연관관계 설정
-        user.addOrder(order);
         //주문 저장
         orderRepository.save(order);
 
-        return OrderResponse.from(order);
+        // 마일리지 사용(잔액 검사 포함) 및 결제 금액의 10% 적립, 최근 결제 금액 반영 → 원장에 기록
+        mileageService.applyOrder(order, mileageToUse);
+        // 완료 전이 예약 (일정 시간 후 PROCESSING → COMPLETE)
+        orderLifecycleEngine.scheduleCompletion(order);
+
+        // 닉네임은 스냅샷 캐시에서 (프록시 초기화 방지)
+        return OrderResponse.from(order, userService.getUserSnapshot(customUserDetails.getProviderId()).usernickname());
     }
 
-    /** 로그인한 사용자의 모든 주문 조회 **/
-    @Transactional
-    public List<OrderResponse> getAllOrders(CustomUserDetails customUserDetails) {
-        User user = userService.getAuthenticatedUser(customUserDetails.getProviderId());
-        //프록시 객체 -> DTO로 변환 후 반환
-        return user.getOrders().stream()
+    /** 로그인한 사용자의 주문 목록 조회 (최신순, 커서 기반 페이지) **/
+    // cursor: 이전 응답의 nextCursor (첫 페이지는 null), size: 1 ~ MAX_PAGE_SIZE
+    // 사용자는 토큰의 user_id로 지정하고, 주문 + 상품 + 주문자 닉네임은 projection 쿼리 한 번으로 조회
+    public OrderPageResponse getOrderPage(CustomUserDetails customUserDetails, String cursor, int size) {
+        Long userId = userService.getAuthenticatedUserId(customUserDetails);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 여부 확인용 1건 추가
+
+        List<OrderSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderRepository.findFirstPageByUserId(userId, limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            rows = orderRepository.findPageByUserIdBefore(userId, after.createdAt(), after.orderId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderResponse> orders = rows.stream()
+                .limit(pageSize)
                 .map(OrderResponse::from)
                 .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            OrderResponse last = orders.get(orders.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode();
+        }
+        return new OrderPageResponse(orders, nextCursor, hasNext);
     }
 
     /** 주문 삭제 **/
     //데이터 삭제가 아니라 주문 상태 변경으로 soft delete
     //배송 완료된 상품, 주문 취소된 상품은 주문 취소 불가능
+    // 상태 확인과 변경을 조건부 UPDATE 한 문장으로 처리 (PROCESSING일 때만 CANCEL)
+    // → 같은 시각에 완료 전이(OrderLifecycleEngine)나 다른 취소 요청이 와도 한쪽만 성공하고,
+    //   진 쪽은 0건 변경이므로 마일리지 회수/환불도 한 번만 일어난다.
     @Transactional
     public void cancelOrder(Long orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new GeneralException(ErrorCode.ORDER_NOT_FOUND));
 
-        if (order.getStatus() == OrderStatus.COMPLETE || order.getStatus() == OrderStatus.CANCEL) {
+        //주문 상태 변경 (이미 완료/취소된 주문이면 0건)
+        int changed = orderRepository.transitionStatus(
+                List.of(orderId), OrderStatus.PROCESSING, OrderStatus.CANCEL, LocalDateTime.now());
+        if (changed == 0) {
             throw new GeneralException(ErrorCode.ORDER_CANCEL_FAILED);
         }
 
-        User user = order.getUser();
-        // 회수해야할 마일리지보다 가지고 있는 마일리지가 적을 경우
-        if (user.getMaxMileage() < (int) (order.getFinalPrice() * 0.1)) {
-            throw new GeneralException(ErrorCode.INVALID_MILEAGE);
-        }
-
-        //주문 상태 변경
-        order.updateStatus(OrderStatus.CANCEL);
-        // 결제 시에 적립되었던 마일리지 차감 ( 결제 금액의 10% )
-        user.useMileage((int)(order.getFinalPrice() * 0.1));
+        // 적립 마일리지 회수(보유 마일리지가 적으면 INVALID_MILEAGE → 상태 변경도 롤백), 사용 마일리지 환불, 결제 금액 차감 → 원장에 기록
+        mileageService.revertOrder(order);
 
-        //마일리지 환불
-        user.addMileage(order.getTotalPrice() - order.getFinalPrice()); //즉, 사용한 마일리지 반환
-
-        // 주문 취소 시, 해당 주문의 총 결제 금액 차감
-        user.updateRecentTotal(-order.getTotalPrice());
+        // 남아 있는 상태 전이 예약 제거
+        orderLifecycleEngine.cancelTransitions(orderId);
     }
 
 
-    @Scheduled(fixedRate = 60000) // 이럿케 수정해달랫음
-    @Transactional
-    public void updateOrderStatus() {
+    /**
+     * 주문 목록 커서 (created_at, order_id)
+     * - 클라이언트에는 "created_at|order_id"를 Base64(URL-safe)로 감싼 문자열로 내려준다.
+     */
+    private record OrderCursor(LocalDateTime createdAt, Long orderId) {
 
-        // PROCESSING 상태면서 1 시간 이전에 생성된 주문 찾기
-        List<Order> orders = orderRepository.findByStatusAndCreatedAtBefore(
-                OrderStatus.PROCESSING,
-                LocalDateTime.now().minusMinutes(1)
-        );
+        String encode() {
+            String raw = createdAt + "|" + orderId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
 
-        // 주문 상태를 'COMPLETE' 로 변경
-        for (Order order : orders) {
-            order.updateStatus(OrderStatus.COMPLETE);
+        static OrderCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new OrderCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new GeneralException(ErrorCode.BAD_REQUEST);
+            }
         }
     }
-
 }
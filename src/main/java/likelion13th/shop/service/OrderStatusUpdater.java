@@ -0,0 +1,121 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 완료 보정 작업
+ * - 주문 완료는 OrderLifecycleEngine이 예약 시각에 처리하고, 이 작업은 예약 누락/실패에 대비한 안전망이다.
+ *   (기본 10분 간격, 대상이 없으면 인덱스 범위 조회 한 번으로 끝남)
+ * - 생성 후 completeDelay(ORDER_COMPLETE_DELAY_MILLIS, 엔진의 완료 예약과 같은 값)가 지난 PROCESSING 주문을 COMPLETE로 변경한다.
+ * - 엔티티를 읽어 한 건씩 바꾸지 않고, UPDATE ... LIMIT batchSize 를 반복하는 집합 단위 처리
+ *   (각 묶음은 별도 트랜잭션 → 밀린 주문이 많아도 트랜잭션/힙 사용량이 묶음 크기로 제한됨)
+ * - (status, created_at) 인덱스로 대상 행을 찾는다.
+ * - 실행마다 변경 건수와 소요 시간을 남긴다.
+ * - 여러 인스턴스 중 임대(LEASE_NAME)를 가진 노드 하나만 실행하고, 각 묶음 UPDATE에 fencing token 조건을 건다.
+ */
+@Slf4j
+@Component
+public class OrderStatusUpdater {
+
+    static final String LEASE_NAME = "order-complete";
+
+    private final OrderRepository orderRepository;
+    private final LeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final long completeDelayMillis;
+
+    // 실행 통계 (직전 실행 변경 건수 / 소요 시간, 누적 변경 건수)
+    private final AtomicLong lastUpdated = new AtomicLong();
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+    private final AtomicLong totalUpdated = new AtomicLong();
+
+    public OrderStatusUpdater(OrderRepository orderRepository,
+                              LeaseManager leaseManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ORDER_COMPLETE_BATCH_SIZE:1000}") int batchSize,
+                              @Value("${ORDER_COMPLETE_PAUSE_MILLIS:50}") long pauseMillis,
+                              @Value("${ORDER_COMPLETE_DELAY_MILLIS:60000}") long completeDelayMillis) {
+        this.orderRepository = orderRepository;
+        this.leaseManager = leaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.completeDelayMillis = completeDelayMillis;
+    }
+
+    @Scheduled(fixedRateString = "${ORDER_COMPLETE_INTERVAL_MILLIS:600000}")
+    public void updateOrderStatus() {
+        if (!leaseManager.runIfLeader(LEASE_NAME, this::completeOrders)) {
+            log.debug("주문 완료 처리 - 다른 노드가 리더라 건너뜀");
+        }
+    }
+
+    private void completeOrders(long fencingToken) {
+        long startedAt = System.currentTimeMillis();
+        // PROCESSING 상태면서 completeDelay 이전에 생성된 주문 (실행 시작 시점 기준으로 고정)
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(completeDelayMillis));
+        long updated = 0;
+
+        while (true) {
+            Integer changed = transactionTemplate.execute(status ->
+                    orderRepository.completeProcessingBefore(cutoff, batchSize, LEASE_NAME, fencingToken,
+                            LocalDateTime.now()));
+            int count = changed == null ? 0 : changed;
+            updated += count;
+
+            // 마지막 묶음이면 종료
+            if (count < batchSize) {
+                break;
+            }
+            // 도중에 임대를 잃었으면 새 리더에게 넘긴다.
+            if (!leaseManager.isCurrent(LEASE_NAME, fencingToken) || !pause()) {
+                break;
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        lastUpdated.set(updated);
+        lastDurationMillis.set(elapsed);
+        totalUpdated.addAndGet(updated);
+        if (updated > 0) {
+            log.info("주문 완료 처리 - 변경 {}건, 소요 {}ms, 누적 {}건", updated, elapsed, totalUpdated.get());
+        } else {
+            log.debug("주문 완료 처리 - 대상 없음, 소요 {}ms", elapsed);
+        }
+    }
+
+    public long getLastUpdated() {
+        return lastUpdated.get();
+    }
+
+    public long getLastDurationMillis() {
+        return lastDurationMillis.get();
+    }
+
+    public long getTotalUpdated() {
+        return totalUpdated.get();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
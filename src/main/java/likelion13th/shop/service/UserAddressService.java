@@ -6,22 +6,31 @@ import likelion13th.shop.DTO.request.AddressRequest;
 import likelion13th.shop.DTO.response.AddressResponse;
 import likelion13th.shop.global.api.ErrorCode;
 import likelion13th.shop.global.exception.CustomException;
+import likelion13th.shop.login.auth.jwt.CustomUserDetails;
+import likelion13th.shop.login.cache.UserSnapshot;
+import likelion13th.shop.login.cache.UserSnapshotCache;
 import likelion13th.shop.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class UserAddressService {
 
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     // 사용자 주소 저장 (기본값 또는 변경)
+    // 토큰에 user_id가 있으면 PK로 조회, 없으면(이전 토큰) provider_id로 조회
     @Transactional
-    public AddressResponse saveAddress(String providerId, AddressRequest request) {
-        User user = userRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    public AddressResponse saveAddress(CustomUserDetails userDetails, AddressRequest request) {
+        Optional<User> found = userDetails.getUserId() != null
+                ? userRepository.findById(userDetails.getUserId())
+                : userRepository.findByProviderId(userDetails.getProviderId());
+        User user = found.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 사용자가 입력한 값이 없을 경우 기본 주소 사용
         String zipcode = request.getZipcode();
@@ -37,11 +46,11 @@ public class UserAddressService {
     }
 
     // 사용자 주소 조회 (기본값 -> 항공대로 제공)
-    @Transactional(readOnly = true)
+    // 읽기 전용 스냅샷 캐시 사용 → 주소 변경 시 캐시가 무효화되므로 최신 값 보장
     public AddressResponse getAddress(String providerId) {
-        User user = userRepository.findByProviderId(providerId)
+        UserSnapshot user = userSnapshotCache.get(providerId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        return new AddressResponse(user.getAddress());
+        return new AddressResponse(user.address());
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package likelion13th.shop.DTO.response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemResponseTest {
+
+    private static final String IMAGE = "https://bucket.s3.amazonaws.com/1234_photo.png";
+
+    @Test
+    void 변형이_있으면_변형_URL을_내려준다() {
+        ItemResponse item = new ItemResponse(1L, "귤", 1000, "제주", IMAGE, false, true);
+
+        assertThat(item.getThumbnailPath()).isEqualTo("https://bucket.s3.amazonaws.com/1234_photo_thumb.jpg");
+        assertThat(item.getListImagePath()).isEqualTo("https://bucket.s3.amazonaws.com/1234_photo_list.jpg");
+        assertThat(item.getDetailImagePath()).isEqualTo("https://bucket.s3.amazonaws.com/1234_photo_detail.jpg");
+    }
+
+    @Test
+    void 변형이_없으면_원본_URL로_대체한다() {
+        ItemResponse item = new ItemResponse(1L, "귤", 1000, "제주", IMAGE, false, false);
+
+        assertThat(item.getThumbnailPath()).isEqualTo(IMAGE);
+        assertThat(item.getListImagePath()).isEqualTo(IMAGE);
+        assertThat(item.getDetailImagePath()).isEqualTo(IMAGE);
+    }
+}
@@ -0,0 +1,66 @@
+package likelion13th.shop.S3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantServiceTest {
+
+    private LocalS3Server s3;
+    private S3Properties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3Server();
+        properties = s3.properties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.close();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void 모든_변형을_JPEG로_만들어_올린다() throws Exception {
+        ImageVariantService service = new ImageVariantService(s3.client(), properties);
+
+        List<String> keys = service.createVariants(new ByteArrayInputStream(png(300, 200)), "1234_photo.png");
+
+        assertThat(keys).containsExactlyInAnyOrder("1234_photo_thumb.jpg", "1234_photo_list.jpg", "1234_photo_detail.jpg");
+        assertThat(s3.objects().get("1234_photo_thumb.jpg").contentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void 픽셀_수가_제한을_넘으면_디코딩하지_않고_건너뛴다() throws Exception {
+        properties.setImageMaxPixels(300 * 200 - 1);
+        ImageVariantService service = new ImageVariantService(s3.client(), properties);
+
+        List<String> keys = service.createVariants(new ByteArrayInputStream(png(300, 200)), "1234_photo.png");
+
+        assertThat(keys).isEmpty();
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 지원하지_않는_형식은_건너뛴다() {
+        ImageVariantService service = new ImageVariantService(s3.client(), properties);
+
+        assertThat(service.createVariants(new ByteArrayInputStream("not an image".getBytes()), "a.heic")).isEmpty();
+        assertThat(s3.objects()).isEmpty();
+    }
+}
@@ -0,0 +1,336 @@
+package likelion13th.shop.S3;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 로컬 S3 대체 서버 (path-style, 메모리 저장)
+ * - AWS SDK v1 클라이언트가 쓰는 API만 구현: PUT/HEAD/GET/DELETE 객체, 복사, 목록(v2),
+ *   multipart upload(시작/part 업로드/완료/중단)
+ * - interceptor로 특정 요청을 지연시키거나 실패(에러 응답)시킬 수 있다.
+ */
+public class LocalS3Server implements AutoCloseable {
+
+    public static final String BUCKET = "test-bucket";
+
+    /** 요청 가로채기: null을 반환하면 정상 처리, 상태 코드를 반환하면 그 코드로 실패 응답 */
+    @FunctionalInterface
+    public interface Interceptor {
+        Integer intercept(String method, String key, Map<String, String> query) throws InterruptedException;
+    }
+
+    public record StoredObject(byte[] content, String contentType, Instant lastModified) {
+    }
+
+    private static final DateTimeFormatter ISO_MILLIS =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Set<String> abortedUploads = ConcurrentHashMap.newKeySet();
+    private final Set<String> completedUploads = ConcurrentHashMap.newKeySet();
+    private volatile Interceptor interceptor = (method, key, query) -> null;
+
+    public LocalS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "local-s3");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** 이 서버를 가리키는 SDK 클라이언트 (테스트가 빨리 끝나도록 재시도 없음) */
+    public AmazonS3 client() {
+        return AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint(), "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .disableChunkedEncoding()
+                .withClientConfiguration(new ClientConfiguration().withMaxErrorRetry(0))
+                .build();
+    }
+
+    public S3Properties properties() {
+        S3Properties properties = new S3Properties();
+        properties.setBucket(BUCKET);
+        properties.setRegion("ap-northeast-2");
+        properties.setAccessKey("test");
+        properties.setSecretKey("test");
+        properties.setEndpoint(endpoint());
+        return properties;
+    }
+
+    public void setInterceptor(Interceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    public Map<String, StoredObject> objects() {
+        return objects;
+    }
+
+    public boolean exists(String key) {
+        return objects.containsKey(key);
+    }
+
+    public void put(String key, byte[] content, String contentType) {
+        objects.put(key, new StoredObject(content, contentType, Instant.now()));
+    }
+
+    /** 테스트에서 오래된 객체를 만들 때 사용 */
+    public void put(String key, byte[] content, String contentType, Instant lastModified) {
+        objects.put(key, new StoredObject(content, contentType, lastModified));
+    }
+
+    public Set<String> abortedUploads() {
+        return abortedUploads;
+    }
+
+    public Set<String> completedUploads() {
+        return completedUploads;
+    }
+
+    /** 시작만 되고 완료/중단되지 않은 multipart upload 수 */
+    public int openUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // ───────────────────────────────── 요청 처리 ─────────────────────────────────
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String withoutSlash = path.substring(1);
+            int slash = withoutSlash.indexOf('/');
+            String key = slash < 0 ? "" : withoutSlash.substring(slash + 1);
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            Integer injected = interceptor.intercept(method, key, query);
+            if (injected != null) {
+                sendError(exchange, injected, "InjectedFailure");
+                return;
+            }
+
+            if (key.isEmpty()) {
+                handleBucket(exchange, method, query);
+            } else if (query.containsKey("uploads") && "POST".equals(method)) {
+                initiate(exchange, key);
+            } else if (query.containsKey("uploadId")) {
+                handleMultipart(exchange, method, key, query, body);
+            } else {
+                handleObject(exchange, method, key, body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handleBucket(HttpExchange exchange, String method, Map<String, String> query) throws IOException {
+        if (!"GET".equals(method)) {
+            sendError(exchange, 405, "MethodNotAllowed");
+            return;
+        }
+        String prefix = query.getOrDefault("prefix", "");
+        StringBuilder xml = new StringBuilder("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>").append(BUCKET).append("</Name>")
+                .append("<Prefix>").append(prefix).append("</Prefix>");
+        int count = 0;
+        StringBuilder contents = new StringBuilder();
+        for (Map.Entry<String, StoredObject> entry : new TreeMap<>(objects).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                continue;
+            }
+            count++;
+            StoredObject object = entry.getValue();
+            contents.append("<Contents><Key>").append(entry.getKey()).append("</Key>")
+                    .append("<LastModified>").append(ISO_MILLIS.format(object.lastModified())).append("</LastModified>")
+                    .append("<ETag>\"").append(md5(object.content())).append("\"</ETag>")
+                    .append("<Size>").append(object.content().length).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        xml.append("<KeyCount>").append(count).append("</KeyCount><MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>")
+                .append(contents).append("</ListBucketResult>");
+        sendXml(exchange, 200, xml.toString());
+    }
+
+    private void handleObject(HttpExchange exchange, String method, String key, byte[] body) throws IOException {
+        switch (method) {
+            case "PUT" -> {
+                String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+                if (copySource != null) {
+                    String decoded = URLDecoder.decode(copySource, StandardCharsets.UTF_8);
+                    String sourceKey = decoded.substring(decoded.indexOf('/', decoded.startsWith("/") ? 1 : 0) + 1);
+                    StoredObject source = objects.get(sourceKey);
+                    if (source == null) {
+                        sendError(exchange, 404, "NoSuchKey");
+                        return;
+                    }
+                    objects.put(key, new StoredObject(source.content(), source.contentType(), Instant.now()));
+                    sendXml(exchange, 200, "<CopyObjectResult><LastModified>"
+                            + ISO_MILLIS.format(Instant.now()) + "</LastModified><ETag>\""
+                            + md5(source.content()) + "\"</ETag></CopyObjectResult>");
+                    return;
+                }
+                objects.put(key, new StoredObject(body, exchange.getRequestHeaders().getFirst("Content-Type"), Instant.now()));
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "HEAD", "GET" -> {
+                StoredObject object = objects.get(key);
+                if (object == null) {
+                    if ("HEAD".equals(method)) {
+                        exchange.sendResponseHeaders(404, -1);
+                    } else {
+                        sendError(exchange, 404, "NoSuchKey");
+                    }
+                    return;
+                }
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(object.content()) + "\"");
+                exchange.getResponseHeaders().add("Last-Modified",
+                        DateTimeFormatter.RFC_1123_DATE_TIME.format(object.lastModified().atZone(ZoneOffset.UTC)));
+                if (object.contentType() != null) {
+                    exchange.getResponseHeaders().add("Content-Type", object.contentType());
+                }
+                if ("HEAD".equals(method)) {
+                    exchange.getResponseHeaders().add("Content-Length", String.valueOf(object.content().length));
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, object.content().length);
+                    exchange.getResponseBody().write(object.content());
+                }
+            }
+            case "DELETE" -> {
+                objects.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> sendError(exchange, 405, "MethodNotAllowed");
+        }
+    }
+
+    private void initiate(HttpExchange exchange, String key) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        sendXml(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key
+                + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+    }
+
+    private void handleMultipart(HttpExchange exchange, String method, String key,
+                                 Map<String, String> query, byte[] body) throws IOException {
+        String uploadId = query.get("uploadId");
+        Map<Integer, byte[]> parts = uploads.get(uploadId);
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        switch (method) {
+            case "PUT" -> {
+                parts.put(Integer.parseInt(query.get("partNumber")), body);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "POST" -> {
+                uploads.remove(uploadId);
+                List<byte[]> ordered = new ArrayList<>(new TreeMap<>(parts).values());
+                int length = ordered.stream().mapToInt(p -> p.length).sum();
+                byte[] content = new byte[length];
+                int offset = 0;
+                for (byte[] part : ordered) {
+                    System.arraycopy(part, 0, content, offset, part.length);
+                    offset += part.length;
+                }
+                objects.put(key, new StoredObject(content, null, Instant.now()));
+                completedUploads.add(uploadId);
+                sendXml(exchange, 200, "<CompleteMultipartUploadResult><Location>" + endpoint() + "/" + BUCKET + "/" + key
+                        + "</Location><Bucket>" + BUCKET + "</Bucket><Key>" + key + "</Key><ETag>\""
+                        + md5(content) + "-" + ordered.size() + "\"</ETag></CompleteMultipartUploadResult>");
+            }
+            case "DELETE" -> {
+                uploads.remove(uploadId);
+                abortedUploads.add(uploadId);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> sendError(exchange, 405, "MethodNotAllowed");
+        }
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + code
+                + "</Message><RequestId>local</RequestId></Error>");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
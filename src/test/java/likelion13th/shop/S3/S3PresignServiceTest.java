@@ -0,0 +1,104 @@
+package likelion13th.shop.S3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import likelion13th.shop.DTO.response.PresignedUploadResponse;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.global.lease.LeaseManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class S3PresignServiceTest {
+
+    private LocalS3Server s3;
+    private S3Properties properties;
+    private S3PresignService presignService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3Server();
+        properties = s3.properties();
+        properties.setPresignedMaxSize(1024);
+        presignService = new S3PresignService(s3.client(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.close();
+    }
+
+    @Test
+    void 업로드_정책에_크기_범위와_form_필드가_모두_들어간다() throws Exception {
+        PresignedUploadResponse response = presignService.issueUploadUrl("cat.png", "image/png");
+
+        assertThat(response.getKey()).startsWith("presigned/").endsWith("_cat.png");
+        assertThat(response.getUploadUrl()).startsWith(s3.endpoint() + "/" + LocalS3Server.BUCKET);
+        assertThat(response.getFields()).containsEntry("key", response.getKey())
+                .containsEntry("Content-Type", "image/png")
+                .containsKeys("policy", "x-amz-signature", "x-amz-credential", "x-amz-date");
+
+        JsonNode policy = new ObjectMapper().readTree(Base64.getDecoder().decode(response.getFields().get("policy")));
+        assertThat(policy.get("conditions").toString())
+                .contains("[\"content-length-range\",1,1024]")
+                .contains("{\"key\":\"" + response.getKey() + "\"}")
+                .contains("{\"Content-Type\":\"image/png\"}");
+        assertThat(response.getFields().get("x-amz-signature")).hasSize(64);
+    }
+
+    @Test
+    void 완료하면_임시_접두사를_뗀_key로_옮긴다() {
+        String key = presignService.issueUploadUrl("cat.png", "image/png").getKey();
+        s3.put(key, new byte[100], "image/png");
+
+        String url = presignService.completeUpload(key);
+
+        String confirmedKey = key.substring("presigned/".length());
+        assertThat(url).endsWith("/" + confirmedKey);
+        assertThat(s3.exists(confirmedKey)).isTrue();
+        assertThat(s3.exists(key)).isFalse();
+    }
+
+    @Test
+    void 최대_크기를_넘은_객체는_삭제하고_거절한다() {
+        String key = presignService.issueUploadUrl("cat.png", "image/png").getKey();
+        s3.put(key, new byte[2048], "image/png");
+
+        assertThatThrownBy(() -> presignService.completeUpload(key))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.S3_FILE_TOO_LARGE);
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 완료되지_않고_오래된_임시_객체만_정리한다() {
+        LeaseManager leaseManager = mock(LeaseManager.class);
+        when(leaseManager.runIfLeader(eq(S3PresignSweeper.LEASE_NAME), any())).thenAnswer(invocation -> {
+            invocation.<LongConsumer>getArgument(1).accept(1L);
+            return true;
+        });
+        S3PresignSweeper sweeper = new S3PresignSweeper(s3.client(), properties, leaseManager, 60_000);
+        Instant old = Instant.now().minusSeconds(properties.getPresignedExpirationSeconds() + 3600);
+
+        s3.put("presigned/abandoned_cat.png", new byte[10], "image/png", old);
+        s3.put("presigned/in-progress_cat.png", new byte[10], "image/png");
+        s3.put("confirmed_cat.png", new byte[10], "image/png", old);
+
+        sweeper.sweep();
+
+        assertThat(s3.objects().keySet())
+                .containsExactlyInAnyOrder("presigned/in-progress_cat.png", "confirmed_cat.png");
+    }
+}
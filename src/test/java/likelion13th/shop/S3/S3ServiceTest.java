@@ -0,0 +1,248 @@
+package likelion13th.shop.S3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import likelion13th.shop.DTO.response.UploadedFileResponse;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3ServiceTest {
+
+    private LocalS3Server s3;
+    private ExecutorService executor;
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3Server();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        s3.close();
+    }
+
+    private S3Service service(int threads) {
+        executor = Executors.newFixedThreadPool(threads);
+        AmazonS3 client = s3.client();
+        S3Properties properties = s3.properties();
+        return new S3Service(client, properties, executor, new S3UploadMetrics(),
+                new ImageVariantService(client, properties), events::add);
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "text/plain", ("content of " + name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MultipartFile image(String name) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("files", name, "image/png", out.toByteArray());
+    }
+
+    private static List<String> urls(List<UploadedFileResponse> uploaded) {
+        return uploaded.stream().map(UploadedFileResponse::getUrl).toList();
+    }
+
+    // URL → object key (LocalS3Server는 path-style: {endpoint}/{bucket}/{key})
+    private String keyOf(String url) {
+        String prefix = s3.client().getUrl(s3.properties().getBucket(), "_").toString();
+        return url.substring(prefix.length() - 1);
+    }
+
+    private static void awaitEmpty(LocalS3Server s3) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!s3.objects().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void 병렬_업로드_결과_URL은_입력_순서를_따른다() {
+        // 첫 파일이 가장 늦게 끝나도 순서는 유지되어야 한다
+        s3.setInterceptor((method, key, query) -> {
+            if (key.endsWith("a.txt")) {
+                Thread.sleep(200);
+            }
+            return null;
+        });
+        S3Service service = service(4);
+
+        List<String> urls = urls(service.uploadFiles(
+                new MultipartFile[]{file("a.txt"), file("b.txt"), file("c.txt"), file("d.txt")}, false));
+
+        assertThat(urls).hasSize(4);
+        assertThat(urls.get(0)).endsWith("_a.txt");
+        assertThat(urls.get(1)).endsWith("_b.txt");
+        assertThat(urls.get(2)).endsWith("_c.txt");
+        assertThat(urls.get(3)).endsWith("_d.txt");
+        assertThat(s3.objects()).hasSize(4);
+    }
+
+    @Test
+    void 하나가_실패하면_이미_올린_파일과_실패_뒤에_끝난_파일까지_삭제된다() throws Exception {
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        s3.setInterceptor((method, key, query) -> {
+            if (!"PUT".equals(method)) {
+                return null;
+            }
+            if (key.endsWith("bad.txt")) {
+                return 500;
+            }
+            if (key.endsWith("slow.txt")) {
+                releaseSlow.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+        S3Service service = service(3);
+
+        assertThatThrownBy(() -> service.uploadFiles(
+                new MultipartFile[]{file("ok.txt"), file("slow.txt"), file("bad.txt")}, false))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.S3_UPLOAD_FAILED);
+
+        // 요청은 이미 실패했지만 느린 업로드는 이제야 S3에 도착한다 → 도착하는 대로 정리되어야 함
+        releaseSlow.countDown();
+        awaitEmpty(s3);
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 실패하면_아직_시작하지_않은_업로드는_S3로_보내지_않는다() {
+        Set<String> requested = ConcurrentHashMap.newKeySet();
+        s3.setInterceptor((method, key, query) -> {
+            if (!"PUT".equals(method)) {
+                return null;
+            }
+            requested.add(key);
+            return key.endsWith("bad.txt") ? 500 : null;
+        });
+        // 업로드 스레드 1개 → bad.txt 실패 후 대기 중이던 나머지는 건너뛰어야 한다
+        S3Service service = service(1);
+
+        assertThatThrownBy(() -> service.uploadFiles(
+                new MultipartFile[]{file("bad.txt"), file("a.txt"), file("b.txt")}, false))
+                .isInstanceOf(GeneralException.class);
+
+        assertThat(requested).hasSize(1);
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 중복_제거_업로드가_실패해도_내용_주소_객체는_지우지_않는다() throws Exception {
+        // 내용 주소 key는 파일명 대신 digest + 확장자이므로 확장자로 실패 대상을 고른다
+        CountDownLatch failBad = new CountDownLatch(1);
+        s3.setInterceptor((method, key, query) -> {
+            if ("PUT".equals(method) && key.endsWith(".bin")) {
+                failBad.await(5, TimeUnit.SECONDS);
+                return 500;
+            }
+            return null;
+        });
+        S3Service service = service(4);
+
+        // 요청 A: shared.txt는 올라가고 bad.bin은 나중에 실패
+        CompletableFuture<Throwable> requestA = CompletableFuture.supplyAsync(() -> {
+            try {
+                service.uploadFiles(new MultipartFile[]{file("shared.txt"), file("bad.bin")}, true);
+                return null;
+            } catch (GeneralException e) {
+                return e;
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (s3.objects().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // 요청 B: A가 올린 같은 내용을 재사용
+        List<String> urls = urls(service.uploadFiles(new MultipartFile[]{file("shared.txt")}, true));
+        failBad.countDown();
+
+        assertThat(requestA.get(5, TimeUnit.SECONDS)).isInstanceOf(GeneralException.class);
+        Thread.sleep(100); // A의 정리 콜백이 돌 시간
+        String key = urls.get(0).substring(urls.get(0).indexOf("sha256/"));
+        assertThat(s3.exists(key)).isTrue();
+    }
+
+    @Test
+    void 같은_내용은_한_번만_올리고_같은_key를_재사용한다() {
+        Set<String> puts = ConcurrentHashMap.newKeySet();
+        s3.setInterceptor((method, key, query) -> {
+            if ("PUT".equals(method)) {
+                puts.add(key);
+            }
+            return null;
+        });
+        S3Service service = service(2);
+
+        List<String> first = urls(service.uploadFiles(new MultipartFile[]{file("a.txt")}, true));
+        List<String> second = urls(service.uploadFiles(new MultipartFile[]{file("a.txt")}, true));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.get(0)).contains("/sha256/").endsWith(".txt");
+        assertThat(puts).hasSize(1);
+    }
+
+    @Test
+    void 이미지는_변형_생성_여부와_변형_URL을_함께_반환하고_이벤트로_알린다() throws Exception {
+        S3Service service = service(2);
+
+        List<UploadedFileResponse> uploaded = service.uploadFiles(
+                new MultipartFile[]{image("photo.png"), file("note.txt")}, false);
+
+        UploadedFileResponse photo = uploaded.get(0);
+        assertThat(photo.isImageVariants()).isTrue();
+        assertThat(photo.getThumbnailPath()).endsWith("_photo_thumb.jpg");
+        assertThat(s3.exists(keyOf(photo.getThumbnailPath()))).isTrue();
+        assertThat(s3.exists(keyOf(photo.getListImagePath()))).isTrue();
+        assertThat(s3.exists(keyOf(photo.getDetailImagePath()))).isTrue();
+
+        // 디코딩할 수 없는 파일은 변형 없이 원본 URL
+        UploadedFileResponse note = uploaded.get(1);
+        assertThat(note.isImageVariants()).isFalse();
+        assertThat(note.getThumbnailPath()).isEqualTo(note.getUrl());
+
+        assertThat(events).containsExactly(new ImageVariantsCreatedEvent(List.of(photo.getUrl())));
+    }
+
+    @Test
+    void 중복_제거로_재사용한_이미지도_변형_존재_여부를_확인해_반환한다() throws Exception {
+        service(2).uploadFiles(new MultipartFile[]{image("photo.png")}, true);
+        executor.shutdownNow();
+
+        // 새 인스턴스(로컬 LRU 없음) → HEAD로 원본과 변형을 확인
+        S3Service other = service(2);
+        events.clear();
+        UploadedFileResponse reused = other.uploadFiles(new MultipartFile[]{image("photo.png")}, true).get(0);
+
+        assertThat(reused.isImageVariants()).isTrue();
+        assertThat(reused.getThumbnailPath()).contains("/sha256/").endsWith("_thumb.jpg");
+        assertThat(events).containsExactly(new ImageVariantsCreatedEvent(List.of(reused.getUrl())));
+    }
+}
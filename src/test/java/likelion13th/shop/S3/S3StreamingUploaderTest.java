@@ -0,0 +1,144 @@
+package likelion13th.shop.S3;
+
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3StreamingUploaderTest {
+
+    private static final byte[] CONTENT = new byte[100];
+
+    private LocalS3Server s3;
+    private ExecutorService executor;
+    private S3StreamingUploader uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3Server();
+        executor = Executors.newFixedThreadPool(2);
+        S3Properties properties = s3.properties();
+        properties.setStreamPartSize(32); // 로컬 서버는 최소 part 크기를 검사하지 않음
+        properties.setStreamMaxInFlightParts(2);
+        uploader = new S3StreamingUploader(s3.client(), properties, executor, new S3UploadMetrics());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        s3.close();
+    }
+
+    private void awaitAborted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (s3.abortedUploads().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void part로_나누어_올린_뒤_하나의_객체로_완료한다() {
+        String url = uploader.upload(new ByteArrayInputStream(CONTENT), "video/mp4", "movie.mp4");
+
+        assertThat(url).endsWith("_movie.mp4");
+        assertThat(s3.completedUploads()).hasSize(1);
+        assertThat(s3.objects().values()).singleElement()
+                .satisfies(object -> assertThat(object.content()).isEqualTo(CONTENT));
+    }
+
+    @Test
+    void 시작_요청이_실패하면_업로드_실패로_응답한다() {
+        s3.setInterceptor((method, key, query) -> query.containsKey("uploads") ? 500 : null);
+
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(CONTENT), "video/mp4", "movie.mp4"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.S3_UPLOAD_FAILED);
+        assertThat(s3.abortedUploads()).isEmpty();
+    }
+
+    @Test
+    void 완료_요청이_실패하면_업로드를_abort한다() throws Exception {
+        s3.setInterceptor((method, key, query) ->
+                "POST".equals(method) && query.containsKey("uploadId") ? 500 : null);
+
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(CONTENT), "video/mp4", "movie.mp4"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.S3_UPLOAD_FAILED);
+
+        awaitAborted();
+        assertThat(s3.abortedUploads()).hasSize(1);
+        assertThat(s3.openUploads()).isZero();
+    }
+
+    @Test
+    void part_업로드가_실패하면_업로드를_abort한다() throws Exception {
+        s3.setInterceptor((method, key, query) -> "2".equals(query.get("partNumber")) ? 500 : null);
+
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(CONTENT), "video/mp4", "movie.mp4"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.S3_UPLOAD_FAILED);
+
+        awaitAborted();
+        assertThat(s3.abortedUploads()).hasSize(1);
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 빈_본문이면_업로드를_시작하지_않고_거절한다() {
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(new byte[0]), "video/mp4", "movie.mp4"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.S3_FILE_EMPTY);
+        assertThat(s3.openUploads()).isZero();
+        assertThat(s3.abortedUploads()).isEmpty();
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 진행_중인_part가_상한이면_다음_part를_읽지_않는다() throws Exception {
+        CountDownLatch partStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        s3.setInterceptor((method, key, query) -> {
+            if (query.containsKey("partNumber")) {
+                partStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+        AtomicLong bytesRead = new AtomicLong();
+        FilterInputStream counting = new FilterInputStream(new ByteArrayInputStream(CONTENT)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    bytesRead.addAndGet(n);
+                }
+                return n;
+            }
+        };
+
+        CompletableFuture<String> upload = CompletableFuture.supplyAsync(
+                () -> uploader.upload(counting, "video/mp4", "movie.mp4"));
+        assertThat(partStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+
+        // maxInFlight(2) × partSize(32) 만큼만 읽고 허가를 기다린다.
+        assertThat(bytesRead.get()).isEqualTo(64);
+        release.countDown();
+        assertThat(upload.get(5, TimeUnit.SECONDS)).endsWith("_movie.mp4");
+        assertThat(bytesRead.get()).isEqualTo(CONTENT.length);
+    }
+}
@@ -0,0 +1,94 @@
+package likelion13th.shop.catalog;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.domain.Category;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.repository.CategoryRepository;
+import likelion13th.shop.repository.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Category.items 컬렉션만 바꿔도 커밋 후 카탈로그 스냅샷이 재구성되는지 확인
+ * - 주기적 재구성(기본 5분)을 기다리지 않고 반영되어야 한다.
+ */
+@SpringBootTest
+class CatalogCollectionChangeListenerTest {
+
+    @Autowired
+    private CatalogSnapshotManager catalogSnapshotManager;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 카테고리는 생성 API가 없으므로 운영과 같이 DB에 직접 넣는다.
+    private long insertCategory(String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO category (category_name) VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private List<Long> categoryItemIds(long categoryId) {
+        return catalogSnapshotManager.current().categoryPage(categoryId, null, 50).getItems().stream()
+                .map(ItemResponse::getId)
+                .toList();
+    }
+
+    private void awaitSnapshot(Predicate<CatalogSnapshot> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            CatalogSnapshot snapshot = catalogSnapshotManager.current();
+            if (snapshot != null && condition.test(snapshot)) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void 카테고리_상품_매핑만_바뀌어도_커밋_후_스냅샷이_재구성된다() throws Exception {
+        long categoryId = insertCategory("매핑 테스트");
+        Item item = itemRepository.save(new Item(null, "한라봉", 20_000, "img.png", "제주", false, false, new ArrayList<>()));
+        catalogSnapshotManager.requestRebuild();
+        awaitSnapshot(snapshot -> snapshot.hasCategory(categoryId));
+        assertThat(categoryItemIds(categoryId)).isEmpty();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Category category = categoryRepository.findById(categoryId).orElseThrow();
+            category.getItems().add(itemRepository.getReferenceById(item.getId()));
+        });
+        awaitSnapshot(snapshot -> snapshot.categoryItems(categoryId).length == 1);
+        assertThat(categoryItemIds(categoryId)).containsExactly(item.getId());
+
+        tx.executeWithoutResult(status ->
+                categoryRepository.findById(categoryId).orElseThrow().getItems().clear());
+        awaitSnapshot(snapshot -> snapshot.categoryItems(categoryId).length == 0);
+        assertThat(categoryItemIds(categoryId)).isEmpty();
+    }
+}
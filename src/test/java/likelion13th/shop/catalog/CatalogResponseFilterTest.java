@@ -0,0 +1,219 @@
+package likelion13th.shop.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import likelion13th.shop.DTO.response.ItemResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogResponseFilterTest {
+
+    private static final long CATEGORY_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CatalogSnapshotManager catalogSnapshotManager;
+    private CatalogResponseCache catalogResponseCache;
+    private CatalogResponseFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        catalogSnapshotManager = mock(CatalogSnapshotManager.class);
+        catalogResponseCache = new CatalogResponseCache(objectMapper, 100);
+        filter = new CatalogResponseFilter(catalogSnapshotManager, catalogResponseCache);
+        ReflectionTestUtils.setField(filter, "maxAgeSeconds", 60L);
+        when(catalogSnapshotManager.current()).thenReturn(snapshot(1, 1000));
+    }
+
+    private static CatalogSnapshot snapshot(long version, int price) {
+        ItemResponse[] items = {
+                new ItemResponse(10L, "감귤", price, "제주", "img10.png", false, false),
+                new ItemResponse(20L, "한라봉", 2000, "제주", "img20.png", false, false)
+        };
+        return CatalogSnapshot.build(version, items, Map.of(CATEGORY_ID, new long[]{10, 20}));
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    // 필터 실행 → 컨트롤러까지 넘어갔으면 chain.getRequest()가 채워진다.
+    private MockHttpServletResponse perform(MockHttpServletRequest request, MockFilterChain chain)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform(request, chain);
+        assertThat(chain.getRequest()).as("컨트롤러로 넘어가지 않아야 함").isNull();
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void 캐시된_JSON을_ETag_Cache_Control_Vary와_함께_바로_내려준다() throws Exception {
+        MockHttpServletResponse response = perform(get("/categories/1/items"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=60");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("isSuccess").asBoolean()).isTrue();
+        assertThat(body.at("/result/items/0/id").asLong()).isEqualTo(10L);
+        assertThat(body.at("/result/items/1/id").asLong()).isEqualTo(20L);
+    }
+
+    @Test
+    void gzip을_받는_클라이언트에는_압축_본문과_gzip_ETag를_내려준다() throws Exception {
+        MockHttpServletRequest plainRequest = get("/categories/1/items");
+        MockHttpServletResponse plain = perform(plainRequest);
+        MockHttpServletRequest request = get("/categories/1/items");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, GZIP;q=0.8");
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG))
+                .isEqualTo(plain.getHeader(HttpHeaders.ETAG).replaceFirst("\"$", "-gzip\""));
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(plain.getContentAsByteArray());
+    }
+
+    @Test
+    void If_None_Match가_일치하면_본문_없이_304() throws Exception {
+        String etag = perform(get("/categories/1/items")).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = get("/categories/1/items");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletRequest stale = get("/categories/1/items");
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertThat(perform(stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void 별표나_다른_인코딩의_ETag로_304가_나가도_이번에_선택된_인코딩의_ETag를_싣는다() throws Exception {
+        String plainEtag = perform(get("/categories/1/items")).getHeader(HttpHeaders.ETAG);
+        String gzipEtag = plainEtag.replaceFirst("\"$", "-gzip\"");
+
+        MockHttpServletRequest anyGzip = get("/categories/1/items");
+        anyGzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        anyGzip.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        MockHttpServletResponse anyGzipResponse = perform(anyGzip);
+        assertThat(anyGzipResponse.getStatus()).isEqualTo(304);
+        assertThat(anyGzipResponse.getHeader(HttpHeaders.ETAG)).isEqualTo(gzipEtag);
+
+        MockHttpServletRequest anyPlain = get("/categories/1/items");
+        anyPlain.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        assertThat(perform(anyPlain).getHeader(HttpHeaders.ETAG)).isEqualTo(plainEtag);
+
+        // gzip으로 받아 둔 ETag로 비압축 요청 → 내용은 같으므로 304, ETag는 비압축 기준
+        MockHttpServletRequest crossed = get("/categories/1/items");
+        crossed.addHeader(HttpHeaders.IF_NONE_MATCH, gzipEtag);
+        MockHttpServletResponse crossedResponse = perform(crossed);
+        assertThat(crossedResponse.getStatus()).isEqualTo(304);
+        assertThat(crossedResponse.getHeader(HttpHeaders.ETAG)).isEqualTo(plainEtag);
+    }
+
+    @Test
+    void 스냅샷이_없거나_처리할_수_없는_요청은_컨트롤러로_넘긴다() throws Exception {
+        // 존재하지 않는 카테고리 / 숫자가 아닌 파라미터
+        for (MockHttpServletRequest request : new MockHttpServletRequest[]{
+                get("/categories/99/items"), withParam("cursor", "abc"), withParam("size", "x")}) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = perform(request, chain);
+            assertThat(chain.getRequest()).as(request.getQueryString()).isNotNull();
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        }
+
+        // GET이 아니거나 다른 경로
+        MockHttpServletRequest post = get("/categories/1/items");
+        post.setMethod("POST");
+        MockFilterChain postChain = new MockFilterChain();
+        perform(post, postChain);
+        assertThat(postChain.getRequest()).isNotNull();
+        MockFilterChain otherChain = new MockFilterChain();
+        perform(get("/categories/1"), otherChain);
+        assertThat(otherChain.getRequest()).isNotNull();
+
+        // 기동 직후 스냅샷 없음
+        when(catalogSnapshotManager.current()).thenReturn(null);
+        MockFilterChain chain = new MockFilterChain();
+        perform(get("/categories/1/items"), chain);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void cursor와_size는_컨트롤러와_같이_해석한다() throws Exception {
+        MockHttpServletRequest request = withParam("cursor", "10");
+        request.setParameter("size", "1000"); // MAX_PAGE_SIZE로 제한
+
+        JsonNode body = objectMapper.readTree(perform(request).getContentAsByteArray());
+
+        assertThat(body.at("/result/items").size()).isEqualTo(1);
+        assertThat(body.at("/result/items/0/id").asLong()).isEqualTo(20L);
+    }
+
+    @Test
+    void 스냅샷_버전이_바뀌면_새_본문과_ETag로_다시_만든다() throws Exception {
+        MockHttpServletResponse before = perform(get("/categories/1/items"));
+        String oldEtag = before.getHeader(HttpHeaders.ETAG);
+
+        CatalogSnapshot next = snapshot(2, 1500);
+        catalogResponseCache.onSnapshotChanged(new CatalogSnapshotChangedEvent(next, 10L));
+        when(catalogSnapshotManager.current()).thenReturn(next);
+
+        MockHttpServletRequest revalidate = get("/categories/1/items");
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, oldEtag);
+        MockHttpServletResponse after = perform(revalidate);
+
+        assertThat(after.getStatus()).isEqualTo(200);
+        assertThat(after.getHeader(HttpHeaders.ETAG)).isNotEqualTo(oldEtag);
+        assertThat(objectMapper.readTree(after.getContentAsByteArray()).at("/result/items/0/price").asInt())
+                .isEqualTo(1500);
+        // 재생성한 항목은 같은 버전에서 그대로 재사용된다.
+        assertThat(catalogResponseCache.get(next, CATEGORY_ID, null, 20).orElseThrow().etag())
+                .isEqualTo(after.getHeader(HttpHeaders.ETAG));
+    }
+
+    private static MockHttpServletRequest withParam(String name, String value) {
+        MockHttpServletRequest request = get("/categories/1/items");
+        request.setParameter(name, value);
+        request.setQueryString(name + "=" + value);
+        return request;
+    }
+}
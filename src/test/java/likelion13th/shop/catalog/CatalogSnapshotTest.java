@@ -0,0 +1,60 @@
+package likelion13th.shop.catalog;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static ItemResponse item(long id, int price, boolean isNew) {
+        return new ItemResponse(id, "item" + id, price, "brand", "img" + id + ".png", isNew, false);
+    }
+
+    private static CatalogSnapshot build(ItemResponse... items) {
+        return CatalogSnapshot.build(1, items, Map.of(1L, new long[]{1, 2}, 2L, new long[]{2, 3}));
+    }
+
+    @Test
+    void 상품_추가의_증분_fingerprint는_전체_재계산과_같다() {
+        CatalogSnapshot base = build(item(1, 1000, false), item(3, 3000, true));
+
+        CatalogSnapshot patched = base.withItem(2, item(2, 2000, true));
+
+        assertThat(patched.getFingerprint())
+                .isEqualTo(build(item(1, 1000, false), item(2, 2000, true), item(3, 3000, true)).getFingerprint())
+                .isNotEqualTo(base.getFingerprint());
+    }
+
+    @Test
+    void 상품_수정의_증분_fingerprint는_전체_재계산과_같다() {
+        CatalogSnapshot base = build(item(1, 1000, false), item(2, 2000, true), item(3, 3000, true));
+
+        // 가격 변경 + 신상품(가상 카테고리) 소속 변경
+        CatalogSnapshot patched = base.withItem(2, item(2, 2500, false));
+
+        assertThat(patched.getFingerprint())
+                .isEqualTo(build(item(1, 1000, false), item(2, 2500, false), item(3, 3000, true)).getFingerprint());
+    }
+
+    @Test
+    void 상품_삭제의_증분_fingerprint는_카테고리_소속까지_반영한다() {
+        CatalogSnapshot base = build(item(1, 1000, false), item(2, 2000, true), item(3, 3000, true));
+
+        CatalogSnapshot patched = base.withoutItem(2, 2);
+
+        CatalogSnapshot rebuilt = CatalogSnapshot.build(1,
+                new ItemResponse[]{item(1, 1000, false), item(3, 3000, true)},
+                Map.of(1L, new long[]{1}, 2L, new long[]{3}));
+        assertThat(patched.getFingerprint()).isEqualTo(rebuilt.getFingerprint());
+    }
+
+    @Test
+    void 내용이_같은_수정은_fingerprint가_바뀌지_않는다() {
+        CatalogSnapshot base = build(item(1, 1000, false), item(2, 2000, true));
+
+        assertThat(base.withItem(2, item(2, 2000, true)).getFingerprint()).isEqualTo(base.getFingerprint());
+    }
+}
@@ -0,0 +1,16 @@
+package likelion13th.shop.catalog;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+
+import java.util.Map;
+
+/** 다른 패키지 테스트에서 스냅샷을 직접 만들기 위한 헬퍼 */
+public final class CatalogSnapshots {
+
+    private CatalogSnapshots() {
+    }
+
+    public static CatalogSnapshot of(Map<Long, long[]> categoryItemIds, ItemResponse... items) {
+        return CatalogSnapshot.build(1, items, categoryItemIds);
+    }
+}
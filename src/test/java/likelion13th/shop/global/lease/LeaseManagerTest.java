@@ -0,0 +1,143 @@
+package likelion13th.shop.global.lease;
+
+import likelion13th.shop.domain.Address;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.domain.Order;
+import likelion13th.shop.domain.User;
+import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.OrderRepository;
+import likelion13th.shop.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LeaseManagerTest {
+
+    private static final long TTL_MILLIS = 300;
+    // 테스트 중 자동 연장이 끼어들지 않도록 heartbeat는 사실상 멈춰 둔다.
+    private static final long HEARTBEAT_MILLIS = 600_000;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LeaseManager nodeA;
+    private LeaseManager nodeB;
+    private String leaseName;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new LeaseManager(schedulerLeaseRepository, transactionManager, TTL_MILLIS, HEARTBEAT_MILLIS);
+        nodeB = new LeaseManager(schedulerLeaseRepository, transactionManager, TTL_MILLIS, HEARTBEAT_MILLIS);
+        leaseName = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.releaseAll();
+        nodeB.releaseAll();
+    }
+
+    @Test
+    void 임대를_가진_노드만_작업을_실행한다() {
+        OptionalLong token = nodeA.acquire(leaseName);
+
+        assertThat(token).isPresent();
+        assertThat(nodeB.acquire(leaseName)).isEmpty();
+        assertThat(nodeB.runIfLeader(leaseName, t -> {
+            throw new AssertionError("리더가 아닌 노드에서 실행됨");
+        })).isFalse();
+        assertThat(nodeA.isCurrent(leaseName, token.getAsLong())).isTrue();
+    }
+
+    @Test
+    void 연장하면_ttl이_지나도_임대를_유지한다() throws InterruptedException {
+        long token = nodeA.acquire(leaseName).getAsLong();
+
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(TTL_MILLIS / 3);
+            nodeA.heartbeat();
+        }
+
+        assertThat(nodeB.acquire(leaseName)).isEmpty();
+        assertThat(nodeA.acquire(leaseName)).hasValue(token);
+    }
+
+    @Test
+    void 만료되면_다른_노드가_더_큰_토큰으로_가져가고_이전_리더는_임대를_잃는다() throws InterruptedException {
+        long oldToken = nodeA.acquire(leaseName).getAsLong();
+
+        Thread.sleep(TTL_MILLIS + 50);
+        long newToken = nodeB.acquire(leaseName).getAsLong();
+
+        assertThat(newToken).isGreaterThan(oldToken);
+        nodeA.heartbeat();
+        assertThat(nodeA.isCurrent(leaseName, oldToken)).isFalse();
+        assertThat(nodeA.acquire(leaseName)).isEmpty();
+    }
+
+    @Test
+    void 반납하면_ttl을_기다리지_않고_바로_이어받는다() throws InterruptedException {
+        long oldToken = nodeA.acquire(leaseName).getAsLong();
+
+        nodeA.releaseAll();
+
+        OptionalLong token = nodeB.acquire(leaseName);
+        assertThat(token).isPresent();
+        assertThat(token.getAsLong()).isGreaterThan(oldToken);
+    }
+
+    @Test
+    void 이전_리더의_토큰으로는_주문_완료_처리가_반영되지_않는다() throws InterruptedException {
+        Long orderId = placeOrder();
+        long staleToken = nodeA.acquire(leaseName).getAsLong();
+        Thread.sleep(TTL_MILLIS + 50);
+        long currentToken = nodeB.acquire(leaseName).getAsLong();
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        assertThat(complete(cutoff, staleToken)).isZero();
+        assertThat(orderRepository.findById(orderId)).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PROCESSING);
+
+        assertThat(complete(cutoff, currentToken)).isPositive();
+        assertThat(orderRepository.findById(orderId)).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.COMPLETE);
+    }
+
+    private int complete(LocalDateTime cutoff, long token) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                orderRepository.completeProcessingBefore(cutoff, 1000, leaseName, token, LocalDateTime.now()));
+    }
+
+    private Long placeOrder() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .providerId("lease-" + UUID.randomUUID())
+                    .usernickname("tester")
+                    .address(new Address())
+                    .build());
+            Item item = itemRepository.save(new Item(null, "귤", 10_000, "img.png", "제주", false, false, new ArrayList<>()));
+            return orderRepository.save(Order.create(user, item, 1, 10_000, 10_000)).getId();
+        });
+    }
+}
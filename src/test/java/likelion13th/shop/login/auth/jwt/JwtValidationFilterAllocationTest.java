@@ -0,0 +1,108 @@
+package likelion13th.shop.login.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * JwtValidationFilter 인증 객체 구성 할당량 점검
+ * - 같은 검증 완료 Claims에서 인증 객체를 만드는 비용만 비교한다. (서명 검증/토큰 캐시는 측정 대상 아님)
+ *   - 이전 경로: authorities split + SimpleGrantedAuthority 생성 + UsernamePasswordAuthenticationToken
+ *   - 현재 경로: AuthorityRegistry 공유 목록 + CustomUserDetails.fromToken + JwtAuthentication
+ * - 측정: com.sun.management.ThreadMXBean.getCurrentThreadAllocatedBytes (현재 스레드 누적 할당량)
+ * - 결과를 SecurityContext에 넣어 JIT가 할당을 없애지 못하게 한다.
+ */
+class JwtValidationFilterAllocationTest {
+
+    private static final String SECRET = "allocation-test-secret-allocation-test-secret-0123456789";
+    private static final int WARMUP = 20_000;
+    private static final int MEASURED = 20_000;
+    // 현재 경로 요청당 허용 할당량 (principal + 인증 객체 수준)
+    private static final long MAX_BYTES_PER_REQUEST = 256;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private TokenProvider tokenProvider;
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        tokenProvider = new TokenProvider(SECRET, 3_600_000L, 1_209_600_000L, new VerifiedTokenCache(10_000));
+        CustomUserDetails user = CustomUserDetails.fromToken("provider-1234", 1L, List.of(
+                new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        claims = tokenProvider.parseClaims(tokenProvider.generateTokens(user).getAccessToken());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 공유_권한_목록과_경량_인증_객체는_이전_경로보다_할당이_적다() {
+        Authentication current = currentPath(claims);
+        Authentication legacy = legacyPath(claims);
+        assertThat(AuthorityUtils.authorityListToSet(current.getAuthorities()))
+                .isEqualTo(AuthorityUtils.authorityListToSet(legacy.getAuthorities()));
+        assertThat(((CustomUserDetails) current.getPrincipal()).getProviderId()).isEqualTo("provider-1234");
+
+        long currentBytes = bytesPerRequest(this::currentPath);
+        long legacyBytes = bytesPerRequest(JwtValidationFilterAllocationTest::legacyPath);
+
+        assertThat(currentBytes).isLessThanOrEqualTo(MAX_BYTES_PER_REQUEST);
+        assertThat(currentBytes * 3).isLessThan(legacyBytes);
+    }
+
+    // JwtValidationFilter가 Claims에서 인증 객체를 만드는 방식 (현재)
+    private Authentication currentPath(Claims claims) {
+        CustomUserDetails userDetails = CustomUserDetails.fromToken(
+                claims.getSubject(), tokenProvider.getUserIdFromClaims(claims), tokenProvider.getAuthFromClaims(claims));
+        return new JwtAuthentication(userDetails);
+    }
+
+    // 변경 전 방식 (요청마다 권한 문자열 split + 목록/인증 토큰 생성)
+    private static Authentication legacyPath(Claims claims) {
+        List<GrantedAuthority> authorities = Arrays.stream(claims.get("authorities", String.class).split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        CustomUserDetails userDetails = new CustomUserDetails(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+    }
+
+    private long bytesPerRequest(Function<Claims, Authentication> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            runOnce(path);
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED; i++) {
+            runOnce(path);
+        }
+        long after = threadMXBean.getCurrentThreadAllocatedBytes();
+        return (after - before) / MEASURED;
+    }
+
+    private void runOnce(Function<Claims, Authentication> path) {
+        SecurityContextHolder.getContext().setAuthentication(path.apply(claims));
+        SecurityContextHolder.clearContext();
+    }
+}
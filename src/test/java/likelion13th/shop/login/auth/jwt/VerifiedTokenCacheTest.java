@@ -0,0 +1,76 @@
+package likelion13th.shop.login.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .setSubject("provider-1")
+                .setExpiration(new Date(System.currentTimeMillis() + millis));
+    }
+
+    @Test
+    void 저장한_토큰은_exp_전까지_조회된다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token-a", claimsExpiringIn(60_000));
+
+        Claims cached = cache.get("token-a");
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.getSubject()).isEqualTo("provider-1");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exp가_지난_토큰은_조회되지_않는다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token-expired", claimsExpiringIn(-1_000));
+
+        assertThat(cache.get("token-expired")).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exp가_없는_토큰은_저장하지_않는다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token-no-exp", Jwts.claims().setSubject("provider-1"));
+
+        assertThat(cache.get("token-no-exp")).isNull();
+    }
+
+    @Test
+    void 공유되는_Claims는_변경할_수_없다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        Claims returned = cache.put("token-a", claimsExpiringIn(60_000));
+        Claims cached = cache.get("token-a");
+
+        assertThatThrownBy(() -> cached.put("authorities", "ROLE_ADMIN"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> returned.setSubject("someone-else"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.entrySet().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(cache.get("token-a").getSubject()).isEqualTo("provider-1");
+    }
+
+    @Test
+    void 최대_크기를_넘겨도_저장이_계속되고_크기는_제한된다() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(50);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("token-" + i, claimsExpiringIn(60_000));
+        }
+        // 가장 최근 토큰은 저장되어 있어야 함 (가득 찼다고 새 토큰을 버리지 않음)
+        assertThat(cache.get("token-999")).isNotNull();
+
+        cache.invalidate("token-999");
+        assertThat(cache.get("token-999")).isNull();
+    }
+}
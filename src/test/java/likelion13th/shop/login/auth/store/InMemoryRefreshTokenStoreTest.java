@@ -0,0 +1,133 @@
+package likelion13th.shop.login.auth.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final String PROVIDER_ID = "kakao-1";
+    private static final Long USER_ID = 1L;
+
+    private JpaRefreshTokenPersister persister;
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        persister = mock(JpaRefreshTokenPersister.class);
+        // 기본: DB 반영이 바로 끝난 상태
+        when(persister.saveAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        store = new InMemoryRefreshTokenStore(persister, 60_000, 60);
+    }
+
+    private static StoredRefreshToken token(String value) {
+        return new StoredRefreshToken(PROVIDER_ID, USER_ID, value, System.currentTimeMillis() + 600_000);
+    }
+
+    @Test
+    void DB_삭제가_끝나기_전에도_삭제된_토큰은_다시_읽히지_않는다() {
+        CompletableFuture<Void> pendingDelete = new CompletableFuture<>();
+        when(persister.deleteAsync(USER_ID)).thenReturn(pendingDelete);
+        // DB에는 아직 행이 남아 있는 상태
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.of(token("old")));
+
+        store.save(token("old"));
+        store.delete(PROVIDER_ID, USER_ID);
+
+        assertThat(store.find(PROVIDER_ID)).isEmpty();
+        verify(persister, never()).load(PROVIDER_ID);
+
+        // DB 삭제 완료 후에는 다시 read-through (이제 행이 없음)
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.empty());
+        pendingDelete.complete(null);
+
+        assertThat(store.find(PROVIDER_ID)).isEmpty();
+        verify(persister, times(1)).load(PROVIDER_ID);
+    }
+
+    @Test
+    void DB_삭제가_실패하면_남은_행을_되살리지_않는다() {
+        when(persister.deleteAsync(USER_ID))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.of(token("old")));
+
+        store.delete(PROVIDER_ID, USER_ID);
+
+        assertThat(store.find(PROVIDER_ID)).isEmpty();
+        verify(persister, never()).load(PROVIDER_ID);
+    }
+
+    @Test
+    void 삭제_후_다시_저장하면_새_토큰이_조회된다() {
+        when(persister.deleteAsync(USER_ID)).thenReturn(new CompletableFuture<>());
+        when(persister.saveAsync(any())).thenReturn(new CompletableFuture<>());
+
+        store.save(token("old"));
+        store.delete(PROVIDER_ID, USER_ID);
+        store.save(token("new"));
+
+        assertThat(store.find(PROVIDER_ID)).map(StoredRefreshToken::refreshToken).contains("new");
+        verify(persister, times(2)).saveAsync(any());
+    }
+
+    @Test
+    void 메모리에_없으면_DB에서_읽어_채운다() {
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.of(token("persisted")));
+
+        assertThat(store.find(PROVIDER_ID)).map(StoredRefreshToken::refreshToken).contains("persisted");
+        verify(persister, times(1)).load(PROVIDER_ID);
+    }
+
+    @Test
+    void DB_반영_전인_저장은_메모리_값을_쓴다() {
+        CompletableFuture<Void> pendingSave = new CompletableFuture<>();
+        when(persister.saveAsync(any())).thenReturn(pendingSave);
+
+        store.save(token("new"));
+
+        assertThat(store.find(PROVIDER_ID)).map(StoredRefreshToken::refreshToken).contains("new");
+        verify(persister, never()).load(PROVIDER_ID);
+
+        // 반영이 끝나면 DB 행 기준으로 확인
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.of(token("new")));
+        pendingSave.complete(null);
+
+        assertThat(store.find(PROVIDER_ID)).map(StoredRefreshToken::refreshToken).contains("new");
+        verify(persister, times(1)).load(PROVIDER_ID);
+    }
+
+    @Test
+    void 다른_노드에서_로그아웃하면_메모리에_있어도_조회되지_않는다() {
+        store.save(token("old"));
+        // 다른 노드가 DB 행을 삭제
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.empty());
+
+        assertThat(store.find(PROVIDER_ID)).isEmpty();
+        assertThat(store.find(PROVIDER_ID)).isEmpty();
+    }
+
+    @Test
+    void 다른_노드에서_회전하면_DB의_새_토큰을_따른다() {
+        store.save(token("old"));
+        when(persister.load(PROVIDER_ID)).thenReturn(Optional.of(token("rotated")));
+
+        assertThat(store.find(PROVIDER_ID)).map(StoredRefreshToken::refreshToken).contains("rotated");
+    }
+
+    @Test
+    void 만료된_토큰은_조회되지_않는다() {
+        store.save(new StoredRefreshToken(PROVIDER_ID, USER_ID, "expired", System.currentTimeMillis() - 1));
+
+        assertThat(store.find(PROVIDER_ID)).isEmpty();
+    }
+}
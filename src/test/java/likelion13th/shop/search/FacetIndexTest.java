@@ -0,0 +1,71 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshots;
+import likelion13th.shop.catalog.VirtualCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacetIndexTest {
+
+    private static final Long NEW_ITEMS = VirtualCategory.NEW_ITEMS.getId();
+
+    private static ItemResponse item(long id, String brand) {
+        return new ItemResponse(id, "item" + id, 1000, brand, "img" + id + ".png", true, false);
+    }
+
+    private static FacetIndex build(long... ids) {
+        ItemResponse[] items = new ItemResponse[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            items[i] = item(ids[i], "A");
+        }
+        return FacetIndex.build(CatalogSnapshots.of(Map.of(), items));
+    }
+
+    private static List<Long> page(FacetIndex index, Long cursor, int size) {
+        return index.query(NEW_ITEMS, Set.of(), Set.of(), null, cursor, size).items().stream()
+                .map(ItemResponse::getId)
+                .toList();
+    }
+
+    @Test
+    void cursor_다음부터_size_더하기_1건만_돌려준다() {
+        FacetIndex index = build(10, 20, 30, 40, 50);
+
+        assertThat(page(index, null, 2)).containsExactly(10L, 20L, 30L);
+        assertThat(page(index, 20L, 2)).containsExactly(30L, 40L, 50L);
+        assertThat(page(index, 25L, 2)).containsExactly(30L, 40L, 50L);
+        assertThat(page(index, 40L, 2)).containsExactly(50L);
+        assertThat(index.query(NEW_ITEMS, Set.of(), Set.of(), null, 20L, 2).total()).isEqualTo(5);
+    }
+
+    @Test
+    void 순서가_어긋난_증분_추가도_id_순서로_섞여_나온다() {
+        FacetIndex index = build(10, 20, 30, 40)
+                .withItem(item(25, "A"))
+                .withItem(item(50, "A"))
+                .withItem(item(5, "A"));
+
+        assertThat(page(index, null, 2)).containsExactly(5L, 10L, 20L);
+        assertThat(page(index, 20L, 2)).containsExactly(25L, 30L, 40L);
+        assertThat(page(index, 40L, 2)).containsExactly(50L);
+    }
+
+    @Test
+    void 삭제와_필터가_반영된다() {
+        FacetIndex index = build(10, 20, 30)
+                .withItem(item(40, "B"))
+                .withoutItem(20);
+
+        assertThat(page(index, null, 10)).containsExactly(10L, 30L, 40L);
+        assertThat(index.query(NEW_ITEMS, Set.of("B"), Set.of(), null, null, 10).items())
+                .extracting(ItemResponse::getId).containsExactly(40L);
+        assertThat(index.query(NEW_ITEMS, Set.of("A"), Set.of(), null, 10L, 10).items())
+                .extracting(ItemResponse::getId).containsExactly(30L);
+    }
+}
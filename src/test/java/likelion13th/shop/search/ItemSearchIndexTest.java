@@ -0,0 +1,132 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchIndexTest {
+
+    private static ItemResponse item(long id, String name, String brand) {
+        return new ItemResponse(id, name, 10_000, brand, "img" + id + ".png", false, false);
+    }
+
+    private static ItemSearchIndex index(ItemResponse... items) {
+        ItemSearchIndex index = new ItemSearchIndex();
+        for (ItemResponse item : items) {
+            index.upsert(item);
+        }
+        return index;
+    }
+
+    private static List<Long> search(ItemSearchIndex index, String query) {
+        return index.search(query, item -> true, 50).stream().map(ItemResponse::getId).toList();
+    }
+
+    @Test
+    void BM25_짧은_문서와_출현_횟수가_많은_문서가_앞선다() {
+        ItemSearchIndex index = index(
+                item(1, "감귤 주스 선물 세트", "B"),
+                item(2, "감귤", "A"),
+                item(3, "사과", "A"),
+                item(4, "감귤 감귤 젤리", "C"),
+                item(5, "감귤 포도 젤리", "C"));
+
+        List<Long> ids = search(index, "감귤");
+
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 4L, 5L);
+        // tf가 같으면 짧은 문서가 앞선다 (2: 4토큰 < 5: 10토큰 < 1: 13토큰)
+        assertThat(ids.stream().filter(id -> id != 4L)).containsExactly(2L, 5L, 1L);
+        // 길이가 같으면 tf가 큰 쪽이 앞선다
+        assertThat(ids.indexOf(4L)).isLessThan(ids.indexOf(5L));
+    }
+
+    @Test
+    void 점수가_같으면_item_id_오름차순이다() {
+        ItemSearchIndex index = index(item(7, "한라봉", "D"), item(6, "한라봉", "D"), item(8, "천혜향", "D"));
+
+        assertThat(search(index, "한라봉")).containsExactly(6L, 7L);
+    }
+
+    @Test
+    void 질의_토큰의_절반_이상이_일치해야_결과에_포함된다() {
+        ItemSearchIndex index = index(
+                item(10, "감귤주스", "X"),
+                item(11, "감귤", "X"),
+                item(12, "오렌지주스", "X"));
+
+        // [감귤, 귤주, 주스] 중 2개 이상
+        assertThat(search(index, "감귤주스")).containsExactly(10L);
+        // [감귤, 주스] 중 1개 이상
+        assertThat(search(index, "감귤 주스")).containsExactlyInAnyOrder(10L, 11L, 12L);
+        // 1글자 질의는 1-gram
+        assertThat(search(index, "귤")).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(search(index, "포도")).isEmpty();
+        assertThat(search(index, "--")).isEmpty();
+    }
+
+    @Test
+    void 자동완성은_단어_시작_접두어로_상품명을_중복없이_돌려준다() {
+        ItemSearchIndex index = index(
+                item(20, "제주 감귤 5kg", "제주농협"),
+                item(21, "제주 감귤 5kg", "서귀포농협"),
+                item(22, "제주 한라봉", "제주농협"),
+                item(23, "감귤 젤리", "오뚜기"));
+
+        assertThat(index.autocomplete("제주", 10)).containsExactly("제주 감귤 5kg", "제주 한라봉");
+        assertThat(index.autocomplete("제주", 1)).containsExactly("제주 감귤 5kg");
+        // 중간 단어부터도 일치
+        assertThat(index.autocomplete("감귤", 10)).containsExactly("제주 감귤 5kg", "감귤 젤리");
+        // 브랜드로 찾아도 상품명을 돌려준다
+        assertThat(index.autocomplete("서귀", 10)).containsExactly("제주 감귤 5kg");
+        assertThat(index.autocomplete("오뚜", 10)).containsExactly("감귤 젤리");
+        assertThat(index.autocomplete("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void 자동완성_접두어의_구분자와_공백은_key와_같은_규칙으로_정규화된다() {
+        ItemSearchIndex index = index(item(20, "제주 감귤 5kg", "제주농협"), item(22, "제주 한라봉", "제주농협"));
+
+        assertThat(index.autocomplete("제주  감", 10)).containsExactly("제주 감귤 5kg");
+        assertThat(index.autocomplete("제주-감", 10)).containsExactly("제주 감귤 5kg");
+        assertThat(index.autocomplete("ＪＥＪＵ", 10)).isEmpty();
+        assertThat(index.autocomplete("제주 한", 10)).containsExactly("제주 한라봉");
+    }
+
+    @Test
+    void 증분_갱신_후_색인은_같은_상품으로_새로_만든_색인과_같다() {
+        ItemResponse a = item(1, "제주 감귤", "제주농협");
+        ItemResponse b = item(2, "한라봉 선물 세트", "서귀포");
+        ItemResponse c = item(3, "천혜향", "남원");
+        ItemResponse renamedB = item(2, "레드향", "서귀포");
+        ItemResponse d = item(4, "감귤 주스", "제주농협");
+
+        ItemSearchIndex incremental = index(a, b, c);
+        incremental.upsert(renamedB);
+        incremental.remove(3);
+        incremental.upsert(d);
+        incremental.remove(99); // 없는 상품은 무시
+        ItemSearchIndex fresh = index(a, renamedB, d);
+
+        assertThat(incremental.size()).isEqualTo(fresh.size()).isEqualTo(3);
+        assertThat(incremental.termCount()).isEqualTo(fresh.termCount());
+        assertThat(incremental.totalLength()).isEqualTo(fresh.totalLength());
+        assertThat(incremental.suggestionCount()).isEqualTo(fresh.suggestionCount());
+        for (String query : List.of("감귤", "제주", "레드향", "주스", "귤")) {
+            assertThat(search(incremental, query)).as(query).isEqualTo(search(fresh, query));
+        }
+        assertThat(search(incremental, "한라봉")).isEmpty();
+        assertThat(search(incremental, "천혜향")).isEmpty();
+        assertThat(incremental.autocomplete("한라", 10)).isEmpty();
+        assertThat(incremental.autocomplete("레드", 10)).containsExactly("레드향");
+
+        incremental.remove(1);
+        incremental.remove(2);
+        incremental.remove(4);
+        assertThat(incremental.termCount()).isZero();
+        assertThat(incremental.totalLength()).isZero();
+        assertThat(incremental.suggestionCount()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package likelion13th.shop.search;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshotChangedEvent;
+import likelion13th.shop.catalog.CatalogSnapshots;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchServiceTest {
+
+    private static ItemResponse item(long id, int price, String brand) {
+        return new ItemResponse(id, "감귤 " + id, price, brand, "img" + id + ".png", false, false);
+    }
+
+    private static final ItemResponse JEJU_10K = item(30, 10_000, "Jeju");
+    private static final ItemResponse SEOGWIPO_20K = item(31, 20_000, "Seogwipo");
+    private static final ItemResponse JEJU_30K = item(32, 30_000, "jeju");
+
+    private static ItemSearchService service(ItemResponse... items) {
+        ItemSearchService service = new ItemSearchService();
+        service.onCatalogChanged(new CatalogSnapshotChangedEvent(CatalogSnapshots.of(Map.of(), items), null));
+        return service;
+    }
+
+    private static List<Long> ids(List<ItemResponse> items) {
+        return items.stream().map(ItemResponse::getId).toList();
+    }
+
+    @Test
+    void 브랜드는_대소문자와_전각을_무시하고_가격은_양끝을_포함한다() {
+        ItemSearchService service = service(JEJU_10K, SEOGWIPO_20K, JEJU_30K);
+
+        assertThat(ids(service.search("감귤", "ＪＥＪＵ", null, null, 10))).containsExactlyInAnyOrder(30L, 32L);
+        assertThat(ids(service.search("감귤", null, 20_000, null, 10))).containsExactlyInAnyOrder(31L, 32L);
+        assertThat(ids(service.search("감귤", null, null, 20_000, 10))).containsExactlyInAnyOrder(30L, 31L);
+        assertThat(ids(service.search("감귤", "jeju", 15_000, 30_000, 10))).containsExactly(32L);
+        assertThat(ids(service.search("감귤", " ", null, null, 10))).containsExactlyInAnyOrder(30L, 31L, 32L);
+        assertThat(service.search("감귤", "없는브랜드", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void size는_1에서_MAX_SEARCH_SIZE_사이로_제한된다() {
+        ItemSearchService service = service(JEJU_10K, SEOGWIPO_20K, JEJU_30K);
+
+        assertThat(service.search("감귤", null, null, null, 0)).hasSize(1);
+        assertThat(service.search("감귤", null, null, null, 2)).hasSize(2);
+    }
+
+    @Test
+    void 색인이_없거나_질의가_비어_있으면_빈_결과다() {
+        ItemSearchService empty = new ItemSearchService();
+        assertThat(empty.search("감귤", null, null, null, 10)).isEmpty();
+        assertThat(empty.autocomplete("감", 10)).isEmpty();
+
+        ItemSearchService service = service(JEJU_10K);
+        assertThat(service.search(" ", null, null, null, 10)).isEmpty();
+        assertThat(service.search(null, null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void 상품_하나만_바뀐_이벤트는_해당_상품만_색인에_반영한다() {
+        ItemSearchService service = service(JEJU_10K, SEOGWIPO_20K);
+
+        ItemResponse changed = new ItemResponse(31L, "한라봉", 20_000, "Seogwipo", "img31.png", false, false);
+        service.onCatalogChanged(new CatalogSnapshotChangedEvent(CatalogSnapshots.of(Map.of(), JEJU_10K, changed), 31L));
+        assertThat(ids(service.search("감귤", null, null, null, 10))).containsExactly(30L);
+        assertThat(ids(service.search("한라봉", null, null, null, 10))).containsExactly(31L);
+        assertThat(service.autocomplete("한라", 10)).containsExactly("한라봉");
+
+        // 새 스냅샷에 없는 상품 → 삭제
+        service.onCatalogChanged(new CatalogSnapshotChangedEvent(CatalogSnapshots.of(Map.of(), changed), 30L));
+        assertThat(service.search("감귤", null, null, null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package likelion13th.shop.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void NFKC로_전각_반각을_통일하고_소문자로_바꾼다() {
+        assertThat(SearchTokenizer.normalize("ＪＥＪＵ　１０ｋｇ")).isEqualTo("jeju 10kg");
+        assertThat(SearchTokenizer.normalize("  Jeju ")).isEqualTo("jeju");
+        assertThat(SearchTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void 문자와_숫자가_아닌_글자는_단어_구분자다() {
+        assertThat(SearchTokenizer.words("제주-감귤  5kg!")).containsExactly("제주", "감귤", "5kg");
+        assertThat(SearchTokenizer.words("--- ")).isEmpty();
+    }
+
+    @Test
+    void 색인은_단어마다_1gram과_2gram을_만들고_단어를_넘지_않는다() {
+        assertThat(SearchTokenizer.indexTokens("감귤")).containsExactly("감", "감귤", "귤");
+        assertThat(SearchTokenizer.indexTokens("제주 감귤"))
+                .containsExactly("제", "제주", "주", "감", "감귤", "귤")
+                .doesNotContain("주감");
+    }
+
+    @Test
+    void 질의는_2글자_이상이면_2gram만_1글자면_1gram을_쓴다() {
+        assertThat(SearchTokenizer.queryTokens("감귤주스")).containsExactly("감귤", "귤주", "주스");
+        assertThat(SearchTokenizer.queryTokens("귤")).containsExactly("귤");
+        assertThat(SearchTokenizer.queryTokens("귤 ＪＵ")).containsExactly("귤", "ju");
+    }
+}
@@ -0,0 +1,50 @@
+package likelion13th.shop.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static List<String> advance(HierarchicalTimingWheel<String> wheel, long now) {
+        List<String> expired = new ArrayList<>();
+        wheel.advance(now, expired::add);
+        return expired;
+    }
+
+    @Test
+    void 슬롯_중간의_due_시각은_그_시각이_지나기_전에는_만료되지_않는다() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 0);
+        assertThat(wheel.add(1500, "a")).isTrue();
+
+        assertThat(advance(wheel, 1000)).isEmpty();
+        assertThat(advance(wheel, 1999)).isEmpty();
+        assertThat(advance(wheel, 2000)).containsExactly("a");
+    }
+
+    @Test
+    void 위_단계에서_내려온_항목도_일찍_만료되지_않는다() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 0);
+        assertThat(wheel.add(10_500, "far")).isTrue(); // 한 바퀴(4초)를 넘어 위 단계에 배치
+
+        for (long now = 0; now <= 10_999; now += 250) {
+            assertThat(advance(wheel, now)).as("now=%d", now).isEmpty();
+        }
+        assertThat(advance(wheel, 11_000)).containsExactly("far");
+    }
+
+    @Test
+    void 이미_지난_due_시각은_추가하지_않고_바로_실행하게_한다() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 0);
+        advance(wheel, 3000);
+
+        assertThat(wheel.add(2500, "past")).isFalse();
+        assertThat(wheel.add(3000, "now")).isFalse();
+        assertThat(wheel.add(3001, "soon")).isTrue();
+        assertThat(advance(wheel, 3999)).isEmpty();
+        assertThat(advance(wheel, 4000)).containsExactly("soon");
+    }
+}
@@ -0,0 +1,125 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.DTO.response.UploadedFileResponse;
+import likelion13th.shop.S3.ImageVariantService;
+import likelion13th.shop.S3.ImageVariantsCreatedEvent;
+import likelion13th.shop.S3.LocalS3Server;
+import likelion13th.shop.S3.S3Service;
+import likelion13th.shop.S3.S3UploadMetrics;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 → 상품 imageVariants 연결 → 응답 변형 URL까지 확인
+ * - S3는 LocalS3Server, 상품은 테스트 DB(H2)를 사용한다.
+ */
+@SpringBootTest
+class ItemImageVariantLinkerTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private LeaseManager leaseManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LocalS3Server s3;
+    private ExecutorService executor;
+    private ItemImageVariantLinker linker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3Server();
+        executor = Executors.newFixedThreadPool(2);
+        linker = new ItemImageVariantLinker(itemRepository, new ImageVariantService(s3.client(), s3.properties()),
+                leaseManager, transactionManager, s3.client(), s3.properties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        s3.close();
+    }
+
+    private S3Service s3Service(ApplicationEventPublisher publisher) {
+        return new S3Service(s3.client(), s3.properties(), executor, new S3UploadMetrics(),
+                new ImageVariantService(s3.client(), s3.properties()), publisher);
+    }
+
+    private static MultipartFile image(String name) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("photo", name, "image/png", out.toByteArray());
+    }
+
+    private Item saveItem(String imagePath) {
+        return itemRepository.save(new Item(null, "귤", 10_000, imagePath, "제주", false, false, new ArrayList<>()));
+    }
+
+    private String keyOf(String url) {
+        String prefix = s3.client().getUrl(s3.properties().getBucket(), "_").toString();
+        return url.substring(prefix.length() - 1);
+    }
+
+    @Test
+    void 업로드한_이미지를_쓰는_상품은_점검_후_변형_URL을_응답한다() throws Exception {
+        UploadedFileResponse photo = s3Service(event -> { }).uploadFiles(new MultipartFile[]{
+                image("photo.png")}, false).get(0);
+        UploadedFileResponse note = s3Service(event -> { }).uploadFiles(new MultipartFile[]{
+                new MockMultipartFile("photo", "note.txt", "text/plain", "text".getBytes(StandardCharsets.UTF_8))},
+                false).get(0);
+        Item withVariants = saveItem(photo.getUrl());
+        Item withoutVariants = saveItem(note.getUrl());
+        Item external = saveItem("https://cdn.example.com/tangerine.png");
+
+        assertThat(ItemResponse.from(withVariants).getThumbnailPath()).isEqualTo(photo.getUrl());
+
+        linker.linkExisting();
+
+        ItemResponse linked = ItemResponse.from(itemRepository.findById(withVariants.getId()).orElseThrow());
+        assertThat(linked.getThumbnailPath()).isEqualTo(photo.getThumbnailPath()).endsWith("_photo_thumb.jpg");
+        assertThat(linked.getListImagePath()).isEqualTo(photo.getListImagePath());
+        assertThat(linked.getDetailImagePath()).isEqualTo(photo.getDetailImagePath());
+        assertThat(s3.exists(keyOf(linked.getThumbnailPath()))).isTrue();
+        assertThat(s3.exists(keyOf(linked.getDetailImagePath()))).isTrue();
+
+        assertThat(itemRepository.findById(withoutVariants.getId()).orElseThrow().isImageVariants()).isFalse();
+        assertThat(itemRepository.findById(external.getId()).orElseThrow().isImageVariants()).isFalse();
+    }
+
+    @Test
+    void 이미_쓰이는_URL을_중복_제거_업로드로_다시_받으면_바로_연결된다() throws Exception {
+        String url = s3Service(event -> { }).uploadFiles(new MultipartFile[]{image("shared.png")}, true)
+                .get(0).getUrl();
+        Item item = saveItem(url);
+
+        s3Service(event -> linker.onVariantsCreated((ImageVariantsCreatedEvent) event))
+                .uploadFiles(new MultipartFile[]{image("shared.png")}, true);
+
+        Item linked = itemRepository.findById(item.getId()).orElseThrow();
+        assertThat(linked.isImageVariants()).isTrue();
+        assertThat(ItemResponse.from(linked).getThumbnailPath()).contains("/sha256/").endsWith("_thumb.jpg");
+    }
+}
@@ -0,0 +1,226 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.DTO.response.ItemResponse;
+import likelion13th.shop.catalog.CatalogSnapshotChangedEvent;
+import likelion13th.shop.catalog.CatalogSnapshots;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.projection.ItemSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemServiceTest {
+
+    private ItemRepository itemRepository;
+    private ItemService itemService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findSummaryById(anyLong())).thenReturn(Optional.empty());
+        when(itemRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of());
+        itemService = new ItemService(itemRepository, 10_000, 300, 10_000, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ItemSummary summary(long id) {
+        return new Summary(id, "귤" + id, 1_000, "제주", "img" + id + ".png", false, false);
+    }
+
+    private static CatalogSnapshotChangedEvent changed(Long itemId) {
+        return new CatalogSnapshotChangedEvent(CatalogSnapshots.of(Map.of()), itemId);
+    }
+
+    private static List<Long> ids(List<ItemResponse> items) {
+        return items.stream().map(ItemResponse::getId).toList();
+    }
+
+    @Test
+    void 같은_id의_동시_miss는_DB를_한_번만_조회한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(itemRepository.findSummaryById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(summary(1));
+        });
+        int threads = 8;
+        executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+
+        List<CompletableFuture<ItemResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                ready.countDown();
+                return itemService.getItem(1L);
+            }, executor));
+        }
+        ready.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100); // 모든 요청이 진행 중인 로딩에 합류할 시간
+        release.countDown();
+
+        for (CompletableFuture<ItemResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        }
+        verify(itemRepository, times(1)).findSummaryById(1L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 다건_조회는_캐시에_없는_id만_IN_쿼리_한_번으로_읽고_요청_순서를_지킨다() {
+        when(itemRepository.findSummaryById(2L)).thenReturn(Optional.of(summary(2)));
+        itemService.getItem(2L);
+        // DB는 id 순서와 무관하게 돌려줄 수 있다.
+        when(itemRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(summary(1), summary(3)));
+
+        List<ItemResponse> items = itemService.getItems(List.of(3L, 2L, 4L, 1L, 3L));
+
+        assertThat(ids(items)).containsExactly(3L, 2L, 1L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(itemRepository, times(1)).findSummariesByIdIn(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(3L, 4L, 1L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(2);
+
+        // 모두 캐시(없는 id 포함)에 있으면 DB 조회 없음
+        assertThat(ids(itemService.getItems(List.of(1L, 4L, 2L, 3L)))).containsExactly(1L, 2L, 3L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 다건_조회_한도를_넘으면_거절한다() {
+        List<Long> tooMany = new ArrayList<>();
+        for (long id = 1; id <= ItemService.MAX_BATCH_SIZE + 1; id++) {
+            tooMany.add(id);
+        }
+
+        assertThatThrownBy(() -> itemService.getItems(tooMany))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.BAD_REQUEST);
+        verify(itemRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    void 카탈로그_변경_이벤트가_오면_해당_상품_항목을_버린다() {
+        when(itemRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1)));
+        when(itemRepository.findSummaryById(2L)).thenReturn(Optional.of(summary(2)));
+        itemService.getItem(1L);
+        itemService.getItem(2L);
+        itemService.getItem(1L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(2);
+
+        itemService.onCatalogChanged(changed(1L));
+        itemService.getItem(1L);
+        itemService.getItem(2L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(3);
+
+        // 전체 재구성이면 모두 버린다.
+        itemService.onCatalogChanged(changed(null));
+        itemService.getItem(1L);
+        itemService.getItem(2L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(5);
+    }
+
+    @Test
+    void 없는_상품은_짧게_기억하고_생성_이벤트가_오면_다시_조회한다() {
+        assertThatThrownBy(() -> itemService.getItem(99L))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.ITEM_NOT_FOUND);
+        assertThatThrownBy(() -> itemService.getItem(99L)).isInstanceOf(GeneralException.class);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(1);
+
+        when(itemRepository.findSummaryById(99L)).thenReturn(Optional.of(summary(99)));
+        itemService.onCatalogChanged(changed(99L));
+
+        assertThat(itemService.getItem(99L).getId()).isEqualTo(99L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 없는_id_요청이_쏟아져도_캐시된_상품은_밀려나지_않는다() {
+        // 캐시에는 상품 2개만 들어갈 수 있다.
+        itemService = new ItemService(itemRepository, 2, 300, 10_000, 10);
+        when(itemRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1)));
+        when(itemRepository.findSummaryById(2L)).thenReturn(Optional.of(summary(2)));
+        itemService.getItem(1L);
+        itemService.getItem(2L);
+
+        for (long id = 1_000; id < 2_000; id++) {
+            long missingId = id;
+            assertThatThrownBy(() -> itemService.getItem(missingId)).isInstanceOf(GeneralException.class);
+        }
+        long loads = itemService.getDbLoadCount();
+
+        itemService.getItem(1L);
+        itemService.getItem(2L);
+        assertThat(itemService.getDbLoadCount()).isEqualTo(loads);
+    }
+
+    private record Summary(Long id, String name, Integer price, String brand, String imagePath,
+                           Boolean isNew, Boolean imageVariants) implements ItemSummary {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Integer getPrice() {
+            return price;
+        }
+
+        @Override
+        public String getBrand() {
+            return brand;
+        }
+
+        @Override
+        public String getImagePath() {
+            return imagePath;
+        }
+
+        @Override
+        public Boolean getIsNew() {
+            return isNew;
+        }
+
+        @Override
+        public Boolean getImageVariants() {
+            return imageVariants;
+        }
+    }
+}
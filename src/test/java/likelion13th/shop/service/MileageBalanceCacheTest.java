@@ -0,0 +1,72 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.repository.MileageLedgerRepository;
+import likelion13th.shop.repository.projection.MileageBalance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MileageBalanceCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private MileageLedgerRepository mileageLedgerRepository;
+    private MileageBalanceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        mileageLedgerRepository = mock(MileageLedgerRepository.class);
+        cache = new MileageBalanceCache(mileageLedgerRepository, 100, 60);
+    }
+
+    private static Optional<MileageBalance> balance(int mileage, int purchaseTotal) {
+        return Optional.of(new MileageBalance() {
+            @Override
+            public Integer getMileage() {
+                return mileage;
+            }
+
+            @Override
+            public Integer getPurchaseTotal() {
+                return purchaseTotal;
+            }
+        });
+    }
+
+    @Test
+    void 반복_조회는_DB를_다시_읽지_않는다() {
+        when(mileageLedgerRepository.findBalance(USER_ID)).thenReturn(balance(1_000, 10_000));
+
+        assertThat(cache.get(USER_ID)).map(MileageBalance::getMileage).contains(1_000);
+        assertThat(cache.get(USER_ID)).map(MileageBalance::getPurchaseTotal).contains(10_000);
+        verify(mileageLedgerRepository, times(1)).findBalance(USER_ID);
+    }
+
+    @Test
+    void 무효화하면_다시_계산한다() {
+        when(mileageLedgerRepository.findBalance(USER_ID)).thenReturn(balance(1_000, 10_000));
+        cache.get(USER_ID);
+
+        when(mileageLedgerRepository.findBalance(USER_ID)).thenReturn(balance(0, 0));
+        cache.evict(USER_ID);
+
+        assertThat(cache.get(USER_ID)).map(MileageBalance::getMileage).contains(0);
+        verify(mileageLedgerRepository, times(2)).findBalance(USER_ID);
+    }
+
+    @Test
+    void 없는_사용자는_캐싱하지_않는다() {
+        when(mileageLedgerRepository.findBalance(USER_ID)).thenReturn(Optional.empty());
+
+        assertThat(cache.get(USER_ID)).isEmpty();
+        assertThat(cache.get(USER_ID)).isEmpty();
+        verify(mileageLedgerRepository, times(2)).findBalance(USER_ID);
+    }
+}
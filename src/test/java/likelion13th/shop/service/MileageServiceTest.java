@@ -0,0 +1,189 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.domain.Address;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.domain.MileageLedger;
+import likelion13th.shop.domain.Order;
+import likelion13th.shop.domain.User;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.constant.MileageEntryType;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.MileageLedgerRepository;
+import likelion13th.shop.repository.OrderRepository;
+import likelion13th.shop.repository.UserRepository;
+import likelion13th.shop.repository.projection.MileageBalance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest
+class MileageServiceTest {
+
+    @Autowired
+    private MileageService mileageService;
+    @Autowired
+    private MileageLedgerRepository mileageLedgerRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private User user;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        user = tx.execute(status -> userRepository.save(User.builder()
+                .providerId("mileage-" + UUID.randomUUID())
+                .usernickname("tester")
+                .address(new Address())
+                .build()));
+        item = tx.execute(status -> itemRepository.save(
+                new Item(null, "귤", 10_000, "img.png", "제주", false, false, new ArrayList<>())));
+    }
+
+    // 총 10,000원 중 used만큼 마일리지로 결제한 주문
+    private Order placeOrder(int used) {
+        return tx.execute(status -> {
+            Order order = orderRepository.save(Order.create(user, item, 1, 10_000, 10_000 - used));
+            mileageService.applyOrder(order, used);
+            return order;
+        });
+    }
+
+    private void revert(Order order) {
+        tx.executeWithoutResult(status -> mileageService.revertOrder(order));
+    }
+
+    private MileageBalance balance() {
+        return mileageService.getBalance(user.getId());
+    }
+
+    private List<MileageLedger> entries(Order order, MileageEntryType type) {
+        return mileageLedgerRepository.findAll().stream()
+                .filter(entry -> order.getId().equals(entry.getOrderId()) && entry.getType() == type)
+                .toList();
+    }
+
+    @Test
+    void 결제하면_적립되고_취소하면_적립분과_구매액이_되돌아간다() {
+        Order order = placeOrder(0);
+        assertThat(balance().getMileage()).isEqualTo(1_000);
+        assertThat(balance().getPurchaseTotal()).isEqualTo(10_000);
+
+        LocalDateTime before = LocalDateTime.now();
+        revert(order);
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(balance().getMileage()).isZero();
+        assertThat(balance().getPurchaseTotal()).isZero();
+        // 조건부 INSERT도 JVM 시계 값으로 created_at을 기록
+        assertThat(entries(order, MileageEntryType.REVOKE)).singleElement()
+                .extracting(MileageLedger::getCreatedAt)
+                .satisfies(createdAt -> assertThat(createdAt).isBetween(before, after));
+    }
+
+    @Test
+    void 보유_잔액보다_많이_쓰면_INVALID_MILEAGE() {
+        placeOrder(0);
+
+        assertThatThrownBy(() -> placeOrder(2_000))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.INVALID_MILEAGE);
+        assertThat(balance().getMileage()).isEqualTo(1_000);
+    }
+
+    @Test
+    void 사용한_마일리지는_차감되고_취소하면_환불된다() {
+        placeOrder(0);
+        Order order = placeOrder(500);
+        // 1,000 - 500 사용 + 950 적립
+        assertThat(balance().getMileage()).isEqualTo(1_450);
+
+        revert(order);
+
+        assertThat(balance().getMileage()).isEqualTo(1_000);
+        assertThat(entries(order, MileageEntryType.REFUND)).singleElement()
+                .extracting(MileageLedger::getMileageDelta).isEqualTo(500);
+    }
+
+    @Test
+    void 같은_주문을_두_번_되돌리면_ORDER_CANCEL_FAILED() {
+        placeOrder(0);
+        Order order = placeOrder(0);
+        revert(order);
+
+        assertThatThrownBy(() -> revert(order))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.ORDER_CANCEL_FAILED);
+        assertThat(entries(order, MileageEntryType.REVOKE)).hasSize(1);
+        assertThat(balance().getMileage()).isEqualTo(1_000);
+    }
+
+    @Test
+    void 차감_항목에만_사용자별_순번이_붙는다() {
+        placeOrder(0);
+        Order spend = placeOrder(300);
+        revert(spend);
+
+        assertThat(entries(spend, MileageEntryType.SPEND)).singleElement()
+                .extracting(MileageLedger::getDebitSeq).isEqualTo(1);
+        assertThat(entries(spend, MileageEntryType.REVOKE)).singleElement()
+                .extracting(MileageLedger::getDebitSeq).isEqualTo(2);
+        assertThat(entries(spend, MileageEntryType.EARN)).singleElement()
+                .extracting(MileageLedger::getDebitSeq).isNull();
+        assertThat(entries(spend, MileageEntryType.REFUND)).singleElement()
+                .extracting(MileageLedger::getDebitSeq).isNull();
+    }
+
+    @Test
+    void 같은_잔액을_보고_동시에_차감하면_하나만_남고_잔액은_음수가_되지_않는다() throws Exception {
+        placeOrder(0); // 잔액 1,000
+        CountDownLatch firstInserted = new CountDownLatch(1);
+
+        // 첫 차감은 원장에 넣은 뒤 잠시 커밋하지 않고 기다린다.
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            Order order = orderRepository.save(Order.create(user, item, 1, 10_000, 9_200));
+            mileageService.applyOrder(order, 800);
+            firstInserted.countDown();
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        firstInserted.await(5, TimeUnit.SECONDS);
+
+        // 두 번째 차감은 첫 차감이 보이지 않는 잔액(1,000)으로 검사를 통과하지만 같은 순번을 받는다.
+        CompletableFuture<Throwable> second = CompletableFuture.supplyAsync(() -> catchThrowable(() -> placeOrder(800)));
+        first.get(10, TimeUnit.SECONDS);
+
+        assertThat(second.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.MILEAGE_CONFLICT);
+        // 1,000 - 800 + 920
+        assertThat(balance().getMileage()).isEqualTo(1_120);
+    }
+}
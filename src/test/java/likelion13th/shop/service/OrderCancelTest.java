@@ -0,0 +1,129 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.domain.Address;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.domain.MileageLedger;
+import likelion13th.shop.domain.Order;
+import likelion13th.shop.domain.User;
+import likelion13th.shop.global.api.ErrorCode;
+import likelion13th.shop.global.constant.MileageEntryType;
+import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.global.exception.GeneralException;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.MileageLedgerRepository;
+import likelion13th.shop.repository.OrderRepository;
+import likelion13th.shop.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OrderCancelTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MileageService mileageService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private MileageLedgerRepository mileageLedgerRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 결제 10,000원 (마일리지 미사용) → 1,000 적립된 진행 중 주문
+    private Long placeOrder() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .providerId("cancel-" + UUID.randomUUID())
+                    .usernickname("tester")
+                    .address(new Address())
+                    .build());
+            Item item = itemRepository.save(new Item(null, "귤", 10_000, "img.png", "제주", false, false, new ArrayList<>()));
+            Order order = orderRepository.save(Order.create(user, item, 1, 10_000, 10_000));
+            mileageService.applyOrder(order, 0);
+            return order.getId();
+        });
+    }
+
+    private long revokeCount(Long orderId) {
+        return mileageLedgerRepository.findAll().stream()
+                .filter(entry -> orderId.equals(entry.getOrderId()))
+                .map(MileageLedger::getType)
+                .filter(MileageEntryType.REVOKE::equals)
+                .count();
+    }
+
+    @Test
+    void 취소는_한_번만_성공하고_적립분도_한_번만_회수한다() {
+        Long orderId = placeOrder();
+
+        orderService.cancelOrder(orderId);
+
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.ORDER_CANCEL_FAILED);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCEL);
+        assertThat(revokeCount(orderId)).isEqualTo(1);
+    }
+
+    @Test
+    void 이미_완료된_주문은_취소되지_않고_마일리지도_그대로다() {
+        Long orderId = placeOrder();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> orderRepository.transitionStatus(
+                List.of(orderId), OrderStatus.PROCESSING, OrderStatus.COMPLETE, LocalDateTime.now()));
+
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorCode.ORDER_CANCEL_FAILED);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.COMPLETE);
+        assertThat(revokeCount(orderId)).isZero();
+    }
+
+    @Test
+    void 동시에_취소해도_하나만_성공한다() throws Exception {
+        Long orderId = placeOrder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            attempts.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                    orderService.cancelOrder(orderId);
+                    return true;
+                } catch (GeneralException e) {
+                    return false;
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        start.countDown();
+
+        long succeeded = 0;
+        for (CompletableFuture<Boolean> attempt : attempts) {
+            if (attempt.get(10, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(revokeCount(orderId)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,198 @@
+package likelion13th.shop.service;
+
+import likelion13th.shop.domain.Address;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.domain.Order;
+import likelion13th.shop.domain.OrderTransition;
+import likelion13th.shop.domain.User;
+import likelion13th.shop.global.constant.OrderStatus;
+import likelion13th.shop.global.lease.LeaseManager;
+import likelion13th.shop.global.lease.SchedulerLeaseRepository;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.OrderRepository;
+import likelion13th.shop.repository.OrderTransitionRepository;
+import likelion13th.shop.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 노드에서 OrderLifecycleEngine이 함께 돌 때 DB 예약 복구/실행 확인
+ * - 노드는 같은 DB를 쓰는 엔진 인스턴스로 흉내 내고, 임대 보유 여부는 LeaseManager mock으로 정한다.
+ * - fencing 조건은 실제 scheduler_lease 행(컨텍스트의 엔진이 기동 시 만든 행)의 token과 비교된다.
+ */
+@SpringBootTest
+class OrderLifecycleEngineTest {
+
+    private static final long TICK_MILLIS = 10;
+    // 다른 테스트가 남긴 진행 중 주문은 이 테스트 동안 실행되지 않도록 완료 지연을 길게 둔다.
+    private static final long COMPLETE_DELAY_MILLIS = 600_000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderTransitionRepository orderTransitionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<OrderLifecycleEngine> engines = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (OrderLifecycleEngine engine : engines) {
+            engine.shutdown();
+        }
+    }
+
+    private OrderLifecycleEngine engine(LeaseManager leaseManager) {
+        OrderLifecycleEngine engine = new OrderLifecycleEngine(orderRepository, orderTransitionRepository, leaseManager,
+                transactionManager, TICK_MILLIS, 60, COMPLETE_DELAY_MILLIS);
+        engines.add(engine);
+        return engine;
+    }
+
+    // token을 가진 리더 노드
+    private static LeaseManager leader(long token) {
+        LeaseManager leaseManager = mock(LeaseManager.class);
+        when(leaseManager.runIfLeader(eq(OrderLifecycleEngine.LEASE_NAME), any())).thenAnswer(invocation -> {
+            invocation.<LongConsumer>getArgument(1).accept(token);
+            return true;
+        });
+        when(leaseManager.isCurrent(anyString(), anyLong())).thenReturn(true);
+        return leaseManager;
+    }
+
+    private static LeaseManager follower() {
+        LeaseManager leaseManager = mock(LeaseManager.class);
+        when(leaseManager.runIfLeader(anyString(), any())).thenReturn(false);
+        return leaseManager;
+    }
+
+    private Order processingOrder() {
+        User user = userRepository.save(User.builder()
+                .providerId("lifecycle-" + UUID.randomUUID())
+                .usernickname("tester")
+                .address(new Address())
+                .build());
+        Item item = itemRepository.save(new Item(null, "귤", 10_000, "img.png", "제주", false, false, new ArrayList<>()));
+        return orderRepository.save(Order.create(user, item, 1, 10_000, 10_000));
+    }
+
+    private List<OrderTransition> transitionsOf(Order order) {
+        return orderTransitionRepository.findAll().stream()
+                .filter(transition -> transition.getOrderId().equals(order.getId()))
+                .toList();
+    }
+
+    private OrderStatus statusOf(Order order) {
+        return orderRepository.findById(order.getId()).orElseThrow().getStatus();
+    }
+
+    private long currentToken() {
+        return schedulerLeaseRepository.findFencingToken(OrderLifecycleEngine.LEASE_NAME).orElseThrow();
+    }
+
+    @Test
+    void 임대를_가진_노드만_DB_예약을_복구하고_같은_token으로는_다시_복구하지_않는다() {
+        Order order = processingOrder();
+        OrderLifecycleEngine follower = engine(follower());
+        OrderLifecycleEngine leader = engine(leader(currentToken()));
+
+        follower.claimRecovery();
+        assertThat(transitionsOf(order)).isEmpty();
+        assertThat(follower.getRecoveredCount()).isZero();
+
+        leader.claimRecovery();
+        long recovered = leader.getRecoveredCount();
+        leader.claimRecovery();
+
+        assertThat(transitionsOf(order)).hasSize(1);
+        assertThat(recovered).isPositive();
+        assertThat(leader.getRecoveredCount()).isEqualTo(recovered);
+    }
+
+    @Test
+    void 복구가_겹쳐도_주문당_완료_예약은_하나만_생긴다() throws Exception {
+        Order order = processingOrder();
+        // 리더가 바뀌는 사이 이전 리더와 새 리더가 동시에 복구하는 경우
+        OrderLifecycleEngine oldLeader = engine(leader(currentToken()));
+        OrderLifecycleEngine newLeader = engine(leader(currentToken() + 1));
+        CountDownLatch start = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            await(start);
+            oldLeader.claimRecovery();
+        });
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            await(start);
+            newLeader.claimRecovery();
+        });
+        start.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        assertThat(transitionsOf(order)).hasSize(1);
+        assertThatThrownBy(() -> orderTransitionRepository.saveAndFlush(OrderTransition.create(
+                order.getId(), OrderStatus.PROCESSING, OrderStatus.COMPLETE, System.currentTimeMillis())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 임대를_잃은_리더가_복구한_예약은_실행되지_않고_새_리더가_실행한다() throws Exception {
+        Order order = processingOrder();
+        orderTransitionRepository.save(OrderTransition.create(
+                order.getId(), OrderStatus.PROCESSING, OrderStatus.COMPLETE, System.currentTimeMillis()));
+
+        // 로컬에서는 리더라고 믿지만 DB의 token은 이미 바뀐 이전 리더
+        OrderLifecycleEngine stale = engine(leader(currentToken() - 1));
+        stale.start();
+        Thread.sleep(TICK_MILLIS * 30);
+        stale.shutdown();
+
+        assertThat(statusOf(order)).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(transitionsOf(order)).hasSize(1);
+
+        OrderLifecycleEngine current = engine(leader(currentToken()));
+        current.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statusOf(order) != OrderStatus.COMPLETE && System.nanoTime() < deadline) {
+            Thread.sleep(TICK_MILLIS);
+        }
+
+        assertThat(statusOf(order)).isEqualTo(OrderStatus.COMPLETE);
+        assertThat(transitionsOf(order)).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package likelion13th.shop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import likelion13th.shop.DTO.request.OrderCreateRequest;
+import likelion13th.shop.DTO.response.OrderPageResponse;
+import likelion13th.shop.DTO.response.OrderResponse;
+import likelion13th.shop.domain.Address;
+import likelion13th.shop.domain.Item;
+import likelion13th.shop.domain.User;
+import likelion13th.shop.login.auth.jwt.AuthorityRegistry;
+import likelion13th.shop.login.auth.jwt.CustomUserDetails;
+import likelion13th.shop.repository.ItemRepository;
+import likelion13th.shop.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private CustomUserDetails principal;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .providerId("order-" + UUID.randomUUID())
+                .usernickname("귤러버")
+                .address(new Address())
+                .build());
+        // 필터가 만드는 것과 같은 토큰 기반 principal (닉네임 등은 비어 있음)
+        principal = CustomUserDetails.fromToken(user.getProviderId(), user.getId(), AuthorityRegistry.ROLE_USER);
+        item = itemRepository.save(new Item(null, "귤", 10_000, "img.png", "제주", false, false, new ArrayList<>()));
+    }
+
+    private OrderResponse order(int quantity) {
+        OrderCreateRequest request = new ObjectMapper().convertValue(
+                Map.of("itemId", item.getId(), "quantity", quantity, "mileageToUse", 0), OrderCreateRequest.class);
+        return orderService.createOrder(request, principal);
+    }
+
+    @Test
+    void 토큰의_user_id로_주문하고_목록을_최신순으로_조회한다() {
+        OrderResponse first = order(1);
+        OrderResponse second = order(2);
+        OrderResponse third = order(3);
+        assertThat(first.getUsernickname()).isEqualTo("귤러버");
+
+        OrderPageResponse page = orderService.getOrderPage(principal, null, 2);
+
+        assertThat(page.getOrders()).extracting(OrderResponse::getOrderId)
+                .containsExactly(third.getOrderId(), second.getOrderId());
+        assertThat(page.getOrders()).extracting(OrderResponse::getUsernickname).containsOnly("귤러버");
+        assertThat(page.isHasNext()).isTrue();
+
+        OrderPageResponse next = orderService.getOrderPage(principal, page.getNextCursor(), 2);
+        assertThat(next.getOrders()).extracting(OrderResponse::getOrderId).containsExactly(first.getOrderId());
+        assertThat(next.isHasNext()).isFalse();
+    }
+}